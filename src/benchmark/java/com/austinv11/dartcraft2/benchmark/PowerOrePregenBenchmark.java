@@ -0,0 +1,164 @@
+package com.austinv11.dartcraft2.benchmark;
+
+import com.austinv11.dartcraft2.worldgen.OreGenStats;
+import com.austinv11.dartcraft2.worldgen.WorldGenPowerOre;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A headless benchmark for power ore generation. It populates a square of chunks with {@link WorldGenPowerOre} once
+ * per requested thread count and reports throughput, placements and the retry loop hit rate.
+ *
+ * Every chunk is seeded the same way FML seeds world generators, and the per-chunk results are combined in chunk
+ * order, so the checksum must be identical for every thread count. If it isn't, the process exits with status 1.
+ *
+ * Arguments are key=value pairs: chunks (default 4096), threads (comma separated, default 1,2,4,8), seed, warmup
+ * (rounds run before measuring, default 1) and dim (0 or -1, default 0).
+ */
+public class PowerOrePregenBenchmark {
+
+	private final WorldGenPowerOre generator = new WorldGenPowerOre();
+	private final long worldSeed;
+	private final int chunkCount;
+	private final int side;
+	private final boolean isOverworld;
+
+	public PowerOrePregenBenchmark(long worldSeed, int chunkCount, boolean isOverworld) {
+		this.worldSeed = worldSeed;
+		this.chunkCount = chunkCount;
+		this.side = (int) Math.ceil(Math.sqrt(chunkCount));
+		this.isOverworld = isOverworld;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int chunks = 4096;
+		int[] threadCounts = new int[]{1, 2, 4, 8};
+		long seed = 8675309L;
+		int warmup = 1;
+		boolean isOverworld = true;
+		for (String arg : args) {
+			String[] split = arg.split("=", 2);
+			if (split.length != 2)
+				throw new IllegalArgumentException("Expected key=value, got "+arg);
+			if (split[0].equals("chunks")) {
+				chunks = Integer.parseInt(split[1]);
+			} else if (split[0].equals("threads")) {
+				String[] counts = split[1].split(",");
+				threadCounts = new int[counts.length];
+				for (int i = 0; i < counts.length; i++)
+					threadCounts[i] = Integer.parseInt(counts[i].trim());
+			} else if (split[0].equals("seed")) {
+				seed = Long.parseLong(split[1]);
+			} else if (split[0].equals("warmup")) {
+				warmup = Integer.parseInt(split[1]);
+			} else if (split[0].equals("dim")) {
+				isOverworld = Integer.parseInt(split[1]) == 0;
+			} else
+				throw new IllegalArgumentException("Unknown option "+split[0]);
+		}
+
+		PowerOrePregenBenchmark benchmark = new PowerOrePregenBenchmark(seed, chunks, isOverworld);
+		for (int i = 0; i < warmup; i++)
+			benchmark.run(threadCounts[threadCounts.length-1]);
+
+		Long expectedChecksum = null;
+		boolean matched = true;
+		for (int threads : threadCounts) {
+			Result result = benchmark.run(threads);
+			System.out.println(result);
+			if (expectedChecksum == null)
+				expectedChecksum = result.checksum;
+			else if (expectedChecksum != result.checksum) {
+				System.out.println("Checksum mismatch with "+threads+" threads! Expected "+Long.toHexString(expectedChecksum));
+				matched = false;
+			}
+		}
+		if (!matched)
+			System.exit(1);
+	}
+
+	/**
+	 * Populates every chunk once using the given number of threads
+	 * @param threads The number of worker threads
+	 * @return The results of the run
+	 */
+	public Result run(final int threads) throws Exception {
+		final OreGenStats stats = new OreGenStats();
+		final long[] hashes = new long[chunkCount];
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<Future<?>>();
+		long start = System.nanoTime();
+		for (int t = 0; t < threads; t++) {
+			final int offset = t;
+			futures.add(executor.submit(new Runnable() {
+				@Override
+				public void run() {
+					ProceduralOreGenTarget target = new ProceduralOreGenTarget(worldSeed);
+					Random random = new Random();
+					for (int i = offset; i < chunkCount; i += threads) {
+						int chunkX = (i % side)-side/2;
+						int chunkZ = (i / side)-side/2;
+						random.setSeed(getChunkSeed(worldSeed, chunkX, chunkZ));
+						target.reset();
+						generator.genVein(random, target, chunkX, chunkZ, isOverworld, stats);
+						hashes[i] = target.getPlacementHash();
+					}
+				}
+			}));
+		}
+		for (Future<?> future : futures)
+			future.get();
+		long elapsed = System.nanoTime()-start;
+		executor.shutdown();
+
+		long checksum = 17;
+		for (long hash : hashes)
+			checksum = 31*checksum+hash;
+		return new Result(threads, stats, elapsed, checksum);
+	}
+
+	/**
+	 * Reproduces the per-chunk seed FML hands to world generators
+	 * @param worldSeed The world seed
+	 * @param chunkX The chunk's x coord
+	 * @param chunkZ The chunk's z coord
+	 * @return The seed
+	 */
+	public static long getChunkSeed(long worldSeed, int chunkX, int chunkZ) {
+		Random fmlRandom = new Random(worldSeed);
+		long xSeed = fmlRandom.nextLong() >> 2 + 1L;
+		long zSeed = fmlRandom.nextLong() >> 2 + 1L;
+		return (xSeed * chunkX + zSeed * chunkZ) ^ worldSeed;
+	}
+
+	public static class Result {
+
+		public final int threads;
+		public final OreGenStats stats;
+		public final long elapsedNanos;
+		public final long checksum;
+
+		public Result(int threads, OreGenStats stats, long elapsedNanos, long checksum) {
+			this.threads = threads;
+			this.stats = stats;
+			this.elapsedNanos = elapsedNanos;
+			this.checksum = checksum;
+		}
+
+		public double getChunksPerSecond() {
+			return stats.getChunks() / (elapsedNanos / 1.0E9);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("threads=%d chunks=%d time=%.1fms chunks/s=%.0f blocksPlaced=%d veins=%d abandonedVeins=%d retryHitRate=%.4f checksum=%016x",
+					threads, stats.getChunks(), elapsedNanos / 1.0E6, getChunksPerSecond(), stats.getBlocksPlaced(),
+					stats.getVeins(), stats.getAbandonedVeins(), stats.getRetryHitRate(), checksum);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.austinv11.dartcraft2.benchmark;
+
+import com.austinv11.dartcraft2.worldgen.IOreGenTarget;
+
+/**
+ * An in-memory stand-in for a chunk being populated. The terrain is a pure function of the seed and the coordinates
+ * (stone up to a hashed surface height with hashed air pockets), and ore placed by this chunk is kept in a private
+ * overlay. Nothing is shared between chunks, so results can't depend on which thread ran first.
+ */
+public class ProceduralOreGenTarget implements IOreGenTarget {
+
+	private static final int BASE_SURFACE = 56;
+	private static final int SURFACE_VARIATION = 16;
+	private static final int CAVE_CHANCE = 12; //1 in n stone blocks is an air pocket
+
+	private final long seed;
+	private long[] placements = new long[64];
+	private int placementCount = 0;
+
+	public ProceduralOreGenTarget(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Clears the ore overlay so this target can be reused for another chunk
+	 */
+	public void reset() {
+		placementCount = 0;
+	}
+
+	@Override
+	public boolean isAirBlock(int x, int y, int z) {
+		if (y < 0 || y > 255)
+			return true;
+		if (hasOre(x, y, z))
+			return false;
+		return !isStone(x, y, z);
+	}
+
+	@Override
+	public boolean isLocationSuitableForOre(int x, int y, int z) {
+		return y >= 0 && y <= 255 && !hasOre(x, y, z) && isStone(x, y, z);
+	}
+
+	@Override
+	public void spawnOreBlock(int x, int y, int z) {
+		if (placementCount == placements.length) {
+			long[] grown = new long[placements.length*2];
+			System.arraycopy(placements, 0, grown, 0, placements.length);
+			placements = grown;
+		}
+		placements[placementCount++] = pack(x, y, z);
+	}
+
+	/**
+	 * Gets the number of ore blocks placed since the last reset
+	 * @return The count
+	 */
+	public int getPlacementCount() {
+		return placementCount;
+	}
+
+	/**
+	 * Hashes the ore placements since the last reset, in placement order
+	 * @return The hash
+	 */
+	public long getPlacementHash() {
+		long hash = 1125899906842597L;
+		for (int i = 0; i < placementCount; i++)
+			hash = 31*hash+placements[i];
+		return hash;
+	}
+
+	private boolean hasOre(int x, int y, int z) {
+		long key = pack(x, y, z);
+		for (int i = 0; i < placementCount; i++)
+			if (placements[i] == key)
+				return true;
+		return false;
+	}
+
+	private boolean isStone(int x, int y, int z) {
+		int surface = BASE_SURFACE+(int) ((mix(seed ^ pack(x, 0, z)) >>> 1) % SURFACE_VARIATION);
+		if (y > surface)
+			return false;
+		return (mix(seed+pack(x, y, z)) >>> 1) % CAVE_CHANCE != 0;
+	}
+
+	private static long pack(int x, int y, int z) {
+		return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+	}
+
+	//SplitMix64 finalizer
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,94 @@
+package com.austinv11.dartcraft2.jmh;
+
+import com.austinv11.dartcraft2.api.DartCraft2API;
+import com.austinv11.dartcraft2.api.IAuraAbsorber;
+import com.austinv11.dartcraft2.api.IAuraEmitter;
+import com.austinv11.dartcraft2.testing.FakeWorld;
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.init.Blocks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cube scans behind aura bursts. The scanned area is half stone and half air, with an aura block on
+ * every fourth block of the surface.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuraScanBenchmark {
+
+	private static final int X = 0, Y = 64, Z = 0;
+
+	@Param({"4", "8", "16"})
+	public int range;
+
+	private FakeWorld world;
+
+	@Setup
+	public void setup() {
+		BenchmarkSupport.init();
+		world = new FakeWorld();
+		Block auraBlock = new AuraBlock();
+		for (int x = X-range; x <= X+range; x++)
+			for (int z = Z-range; z <= Z+range; z++) {
+				for (int y = Y-range; y < Y; y++)
+					world.setBlock(x, y, z, Blocks.stone, 0, 2);
+				if ((x & 1) == 0 && (z & 1) == 0)
+					world.setBlock(x, Y, z, auraBlock, 0, 2);
+			}
+	}
+
+	@Benchmark
+	public List findAllAbsorbersWithinRange() {
+		return DartCraft2API.findAllAbsorbersWithinRange(world, X, Y, Z, range);
+	}
+
+	@Benchmark
+	public List findAllEmittersWithinRange() {
+		return DartCraft2API.findAllEmittersWithinRange(world, X, Y, Z, range);
+	}
+
+	@Benchmark
+	public List findAllPassiveEmittersWithinRange() {
+		return DartCraft2API.findAllPassiveEmittersWithinRange(world, X, Y, Z, range);
+	}
+
+	@Benchmark
+	public Object getControllerForLocation() {
+		return DartCraft2API.getControllerForLocation(world, X, Y, Z, range);
+	}
+
+	private static class AuraBlock extends Block implements IAuraEmitter, IAuraAbsorber {
+
+		private AuraBlock() {
+			super(Material.rock);
+		}
+
+		@Override
+		public int receiveAuraBurst(int amount) {
+			return amount;
+		}
+
+		@Override
+		public int suckAura(int amount) {
+			return amount;
+		}
+
+		@Override
+		public int getAuraEmitted() {
+			return 1;
+		}
+
+		@Override
+		public float getPotency() {
+			return 1;
+		}
+	}
+}
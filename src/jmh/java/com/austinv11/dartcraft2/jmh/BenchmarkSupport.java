@@ -0,0 +1,25 @@
+package com.austinv11.dartcraft2.jmh;
+
+import com.austinv11.dartcraft2.api.DartCraft2Services;
+import com.austinv11.dartcraft2.api.implementations.PassiveAuraController;
+import com.austinv11.dartcraft2.api.implementations.TransmutationRecipeHandler;
+import com.austinv11.dartcraft2.api.implementations.UpgradeRegistry;
+import net.minecraft.init.Bootstrap;
+
+/**
+ * Sets up what the benchmarks need from a running game: the vanilla block and item registries and the DartCraft 2
+ * services which the API looks up.
+ */
+public class BenchmarkSupport {
+
+	private static boolean initialized = false;
+
+	public static synchronized void init() {
+		if (initialized)
+			return;
+		Bootstrap.func_151354_b(); //Registers the vanilla blocks and items
+		if (DartCraft2Services.getTransmutationRecipeHandler() == null)
+			DartCraft2Services.publish(new TransmutationRecipeHandler(), new UpgradeRegistry(), PassiveAuraController.FACTORY);
+		initialized = true;
+	}
+}
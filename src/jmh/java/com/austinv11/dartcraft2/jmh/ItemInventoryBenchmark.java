@@ -0,0 +1,51 @@
+package com.austinv11.dartcraft2.jmh;
+
+import com.austinv11.dartcraft2.utils.DartCraftUtils;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.inventory.InventoryBasic;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures moving a force pack sized inventory between a container and its item
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemInventoryBenchmark {
+
+	@Param({"8", "40"})
+	public int slots;
+
+	private InventoryBasic inventory;
+	private ItemStack stack;
+
+	@Setup
+	public void setup() {
+		BenchmarkSupport.init();
+		inventory = new InventoryBasic("benchmark", false, slots);
+		for (int i = 0; i < slots; i += 2) //Half full, which is also where empty slot handling shows up
+			inventory.setInventorySlotContents(i, new ItemStack(i % 4 == 0 ? Items.diamond : Item.getItemFromBlock(Blocks.cobblestone), 1+i));
+		stack = new ItemStack(Items.leather);
+		DartCraftUtils.writeItemInventoryToNBT(inventory, stack);
+	}
+
+	@Benchmark
+	public InventoryBasic read() {
+		DartCraftUtils.readItemInventoryFromNBT(inventory, stack);
+		return inventory;
+	}
+
+	@Benchmark
+	public ItemStack write() {
+		DartCraftUtils.writeItemInventoryToNBT(inventory, stack);
+		return stack;
+	}
+}
@@ -0,0 +1,53 @@
+package com.austinv11.dartcraft2.jmh;
+
+import com.austinv11.dartcraft2.blocks.BlockForceSapling;
+import com.austinv11.dartcraft2.blocks.SaplingGrowthTable;
+import com.austinv11.dartcraft2.init.ModBlocks;
+import com.austinv11.dartcraft2.testing.FakeWorld;
+import net.minecraft.init.Blocks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures growing each kind of force tree from a sapling on its last growth cycle
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaplingGrowthBenchmark {
+
+	private static final int X = 0, Y = 64, Z = 0;
+
+	@Param({"0", "1", "2", "3", "4", "5"})
+	public int variant;
+
+	private FakeWorld world;
+	private BlockForceSapling sapling;
+	private final Random random = new Random(8675309L);
+
+	@Setup
+	public void setup() {
+		BenchmarkSupport.init();
+		world = new FakeWorld();
+		sapling = (BlockForceSapling) ModBlocks.forceSapling;
+	}
+
+	@Setup(Level.Invocation)
+	public void plant() {
+		world.clear();
+		world.setBlock(X, Y-1, Z, Blocks.dirt, 0, 2);
+		world.setBlock(X, Y, Z, sapling, variant, 2);
+		SaplingGrowthTable.INSTANCE.setCycle(world, X, Y, Z, SaplingGrowthTable.MAX_CYCLES);
+	}
+
+	@Benchmark
+	public FakeWorld generateTree() {
+		sapling.generateTree(world, X, Y, Z, random);
+		return world;
+	}
+}
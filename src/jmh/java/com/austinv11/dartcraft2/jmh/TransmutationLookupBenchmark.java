@@ -0,0 +1,54 @@
+package com.austinv11.dartcraft2.jmh;
+
+import com.austinv11.dartcraft2.api.FailedAPIRequest;
+import com.austinv11.dartcraft2.api.ITransmutationRecipeHandler;
+import com.austinv11.dartcraft2.api.implementations.TransmutationRecipeHandler;
+import net.minecraft.item.Item;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures transmutation lookups against registries of different sizes, for items which have a transmutation and
+ * items which don't.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransmutationLookupBenchmark {
+
+	@Param({"10", "1000", "10000"})
+	public int recipes;
+
+	private TransmutationRecipeHandler handler;
+	private Item[] inputs;
+	private Item missing;
+	private int next = 0;
+
+	@Setup
+	public void setup() throws FailedAPIRequest {
+		BenchmarkSupport.init();
+		handler = new TransmutationRecipeHandler();
+		inputs = new Item[recipes];
+		for (int i = 0; i < recipes; i++) {
+			inputs[i] = new Item();
+			handler.addTransmutation(inputs[i], i, new Item(), 0);
+		}
+		missing = inputs[0];
+	}
+
+	@Benchmark
+	public ITransmutationRecipeHandler.ItemInfo hit() {
+		int i = next;
+		next = i+1 == recipes ? 0 : i+1;
+		return handler.getAvailableTransmutation(inputs[i], i);
+	}
+
+	@Benchmark
+	public ITransmutationRecipeHandler.ItemInfo miss() {
+		return handler.getAvailableTransmutation(missing, recipes); //Registered item, but no recipe uses this meta
+	}
+}
@@ -0,0 +1,116 @@
+package com.austinv11.dartcraft2.jmh;
+
+import com.austinv11.dartcraft2.api.*;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the upgrades off of an upgraded tool
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpgradeReadBenchmark {
+
+	@Param({"1", "8", "32"})
+	public int upgrades;
+
+	private ItemStack stack;
+
+	@Setup
+	public void setup() throws FailedAPIRequest {
+		BenchmarkSupport.init();
+		IUpgradeRegistry registry = DartCraft2API.getUpgradeRegistry();
+		stack = new ItemStack(new UpgradeableItem());
+		for (int i = 0; i < upgrades; i++) {
+			IForceUpgrade upgrade = new Upgrade("benchmark"+upgrades+"_"+i);
+			registry.registerUpgrade(upgrade);
+			DartCraft2API.addUpgradeToStack(stack, upgrade);
+		}
+	}
+
+	@Benchmark
+	public List<IForceUpgrade> getUpgradesFromStack() throws FailedAPIRequest {
+		return DartCraft2API.getUpgradesFromStack(stack);
+	}
+
+	private static class UpgradeableItem extends Item implements IForceTool, IForceArmor {
+
+		@Override
+		public EnumSet<ToolType> getToolTypes() {
+			return EnumSet.allOf(ToolType.class);
+		}
+
+		@Override
+		public boolean onInfusion(ItemStack stack, List<IForceUpgrade> upgrades) {
+			return true;
+		}
+	}
+
+	private static class Upgrade implements IForceUpgrade {
+
+		private final String name;
+
+		private Upgrade(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Item getItem() {
+			return null;
+		}
+
+		@Override
+		public void update(ItemStack stack, int level) {}
+
+		@Override
+		public void writeToNBT(NBTTagCompound compound) {}
+
+		@Override
+		public void readFromNBT(NBTTagCompound compound) {}
+
+		@Override
+		public int getExperience(int amount, boolean isFirstTime) {
+			return 0;
+		}
+
+		@Override
+		public String getUnlocalizedName() {
+			return name;
+		}
+
+		@Override
+		public EnumSet<ToolType> getToolTypes() {
+			return EnumSet.allOf(ToolType.class);
+		}
+
+		@Override
+		public int getRequiredTier() {
+			return 0;
+		}
+
+		@Override
+		public int getRequiredTime(int amount) {
+			return 0;
+		}
+
+		@Override
+		public int getRequiredAura(int amount) {
+			return 0;
+		}
+
+		@Override
+		public int getMaxLevel() {
+			return 1;
+		}
+	}
+}
@@ -3,31 +3,41 @@ package com.austinv11.dartcraft2;
 import com.austinv11.collectiveframework.minecraft.config.ConfigException;
 import com.austinv11.collectiveframework.minecraft.config.ConfigRegistry;
 import com.austinv11.collectiveframework.minecraft.logging.Logger;
+import com.austinv11.dartcraft2.api.DartCraft2Services;
 import com.austinv11.dartcraft2.api.FailedAPIRequest;
 import com.austinv11.dartcraft2.api.ITransmutationRecipeHandler;
 import com.austinv11.dartcraft2.api.IUpgradeRegistry;
+import com.austinv11.dartcraft2.api.implementations.PassiveAuraController;
 import com.austinv11.dartcraft2.api.implementations.TransmutationRecipeHandler;
 import com.austinv11.dartcraft2.api.implementations.UpgradeRegistry;
 import com.austinv11.dartcraft2.client.gui.GuiHandler;
+import com.austinv11.dartcraft2.commands.CommandDartCraft2;
 import com.austinv11.dartcraft2.init.ModBlocks;
 import com.austinv11.dartcraft2.init.ModFluids;
 import com.austinv11.dartcraft2.init.ModItems;
 import com.austinv11.dartcraft2.init.Recipes;
+import com.austinv11.dartcraft2.metrics.MetricsWriter;
+import com.austinv11.dartcraft2.network.ServerTaskQueue;
 import com.austinv11.dartcraft2.proxy.CommonProxy;
 import com.austinv11.dartcraft2.reference.Config;
 import com.austinv11.dartcraft2.reference.Reference;
+import com.austinv11.dartcraft2.utils.TomeProgression;
 import com.austinv11.dartcraft2.worldgen.WorldGenPowerOre;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.SidedProxy;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.event.FMLServerStartingEvent;
+import cpw.mods.fml.common.event.FMLServerStoppingEvent;
 import cpw.mods.fml.common.network.NetworkRegistry;
 import cpw.mods.fml.common.network.simpleimpl.SimpleNetworkWrapper;
 import cpw.mods.fml.common.registry.GameRegistry;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 
+import java.io.File;
+
 @Mod(modid = Reference.MOD_ID, name = Reference.MOD_NAME, version = Reference.VERSION, dependencies = "after:CollectiveFramework")
 public class DartCraft2 {
 	
@@ -51,12 +61,14 @@ public class DartCraft2 {
 		} catch (ConfigException e) {
 			e.printStackTrace();
 		}
+		TomeProgression.compile();
 		NETWORK = NetworkRegistry.INSTANCE.newSimpleChannel("dartcraft2");
 		proxy.registerPackets();
 		GameRegistry.registerWorldGenerator(new WorldGenPowerOre(), 1);
 		ModFluids.init();
 		ModBlocks.init();
 		ModItems.init();
+		DartCraft2Services.publish(TRANSMUTATION_HANDLER, UPGRADE_REGISTRY, PassiveAuraController.FACTORY);
 		try {
 			prepareAPI();
 		} catch (FailedAPIRequest failedAPIRequest) {
@@ -81,6 +93,19 @@ public class DartCraft2 {
 		
 	}
 	
+	@Mod.EventHandler
+	public void serverStarting(FMLServerStartingEvent event) {
+		event.registerServerCommand(new CommandDartCraft2());
+		if (Config.enableMetrics)
+			MetricsWriter.start(new File(Config.metricsFile), Config.metricsFormat, Config.metricsWindowSeconds);
+	}
+	
+	@Mod.EventHandler
+	public void serverStopping(FMLServerStoppingEvent event) {
+		MetricsWriter.stop();
+		ServerTaskQueue.INSTANCE.clear();
+	}
+	
 	private void prepareAPI() throws FailedAPIRequest {
 		//Transmutation recipes
 		for (int i = 0; i < 6; i++)
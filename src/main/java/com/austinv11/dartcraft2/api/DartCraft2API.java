@@ -15,18 +15,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The class used to interface with DartCraft 2
  */
 public class DartCraft2API {
 	
-	private static final HashMap<String, Field> cachedFields = new HashMap<String, Field>();
-	private static final HashMap<String, Method> cachedMethods = new HashMap<String, Method>();
-	private static final HashMap<String, Class> cachedClasses = new HashMap<String, Class>();
+	private static final ConcurrentHashMap<String, Field> cachedFields = new ConcurrentHashMap<String, Field>();
+	private static final ConcurrentHashMap<String, Method> cachedMethods = new ConcurrentHashMap<String, Method>();
+	private static final ConcurrentHashMap<String, Class> cachedClasses = new ConcurrentHashMap<String, Class>();
 	
 	/**
 	 * Gets the {@link ITransmutationRecipeHandler} to interface with
@@ -34,7 +34,10 @@ public class DartCraft2API {
 	 * @throws FailedAPIRequest
 	 */
 	public static ITransmutationRecipeHandler getTransmutationRecipeHandler() throws FailedAPIRequest {
-		try {
+		ITransmutationRecipeHandler handler = DartCraft2Services.getTransmutationRecipeHandler();
+		if (handler != null)
+			return handler;
+		try { //Fall back to reflection, i.e. if this is called before DartCraft 2's pre-init
 			return (ITransmutationRecipeHandler) getCachedField("com.austinv11.dartcraft2.DartCraft2#TRANSMUTATION_HANDLER").get(null);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -48,11 +51,14 @@ public class DartCraft2API {
 	 * @throws FailedAPIRequest
 	 */
 	public static IUpgradeRegistry getUpgradeRegistry() throws FailedAPIRequest {
-		try {
+		IUpgradeRegistry registry = DartCraft2Services.getUpgradeRegistry();
+		if (registry != null)
+			return registry;
+		try { //Fall back to reflection, i.e. if this is called before DartCraft 2's pre-init
 			return (IUpgradeRegistry) getCachedField("com.austinv11.dartcraft2.DartCraft2#UPGRADE_REGISTRY").get(null);
 		} catch (Exception e) {
 			e.printStackTrace();
-			throw new FailedAPIRequest("Unknown exception retrieving the transmutation recipe handler");
+			throw new FailedAPIRequest("Unknown exception retrieving the upgrade registry");
 		}
 	}
 	
@@ -91,8 +97,11 @@ public class DartCraft2API {
 		}
 		if (closestController != null)
 			return (IAuraController) closestController;
+		IAuraControllerFactory factory = DartCraft2Services.getPassiveControllerFactory();
+		if (factory != null)
+			return factory.createPassiveController(world, x, y, z);
 		try {
-			return (IAuraController) getCachedClass("com.austinv11.dartcraft2.api.implementations.PassiveAuraController").getConstructor(World.class, Integer.class, Integer.class, Integer.class).newInstance(world, x, y, z);
+			return (IAuraController) getCachedClass("com.austinv11.dartcraft2.api.implementations.PassiveAuraController").getConstructor(World.class, int.class, int.class, int.class).newInstance(world, x, y, z);
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
@@ -330,17 +339,21 @@ public class DartCraft2API {
 		return numerals;
 	}
 	
-	//Reflection cache helper methods, This should help improve performance
+	//Reflection cache helper methods, This should help improve performance (these are safe to call from any thread)
 	
 	private static Class getCachedClass(String clazz) throws ClassNotFoundException {
-		if (!cachedClasses.containsKey(clazz))
-			cachedClasses.put(clazz, Class.forName(clazz));
-		return cachedClasses.get(clazz);
+		Class cached = cachedClasses.get(clazz);
+		if (cached == null) {
+			cached = Class.forName(clazz);
+			cachedClasses.putIfAbsent(clazz, cached);
+		}
+		return cached;
 	}
 	
 	//Reads class name and method name, separated by '#'
 	private static Method getCachedMethod(String method, Class<?>... paramTypes) throws ClassNotFoundException, NoSuchMethodException {
-		if (!cachedMethods.containsKey(method)) {
+		Method cached = cachedMethods.get(method);
+		if (cached == null) {
 			String[] split = method.split("#");
 			Class clazz = getCachedClass(split[0]);
 			Method m;
@@ -350,14 +363,16 @@ public class DartCraft2API {
 				m = clazz.getDeclaredMethod(split[1], paramTypes);
 			}
 			m.setAccessible(true);
-			cachedMethods.put(method, m);
+			cachedMethods.putIfAbsent(method, m);
+			cached = m;
 		}
-		return cachedMethods.get(method);
+		return cached;
 	}
 	
 	//Reads class name and field name, separated by '#'
 	private static Field getCachedField(String field) throws ClassNotFoundException, NoSuchFieldException {
-		if (!cachedFields.containsKey(field)) {
+		Field cached = cachedFields.get(field);
+		if (cached == null) {
 			String[] split = field.split("#");
 			Class clazz = getCachedClass(split[0]);
 			Field f;
@@ -367,8 +382,9 @@ public class DartCraft2API {
 				f = clazz.getDeclaredField(split[1]);
 			}
 			f.setAccessible(true);
-			cachedFields.put(field, f);
+			cachedFields.putIfAbsent(field, f);
+			cached = f;
 		}
-		return cachedFields.get(field);
+		return cached;
 	}
 }
@@ -0,0 +1,53 @@
+package com.austinv11.dartcraft2.api;
+
+/**
+ * Holds the core DartCraft 2 objects behind the API. DartCraft 2 publishes them once during pre-init, after which
+ * {@link DartCraft2API} hands them out with a plain (volatile) field read from any thread.
+ * Before they have been published every getter returns null, and {@link DartCraft2API} falls back to reflection.
+ */
+public final class DartCraft2Services {
+	
+	private static volatile ITransmutationRecipeHandler transmutationRecipeHandler;
+	private static volatile IUpgradeRegistry upgradeRegistry;
+	private static volatile IAuraControllerFactory passiveControllerFactory;
+	
+	private DartCraft2Services() {}
+	
+	/**
+	 * Publishes the core services. <b>This is only meant to be called by DartCraft 2 itself</b>
+	 * @param transmutationRecipeHandler The transmutation recipe handler
+	 * @param upgradeRegistry The upgrade registry
+	 * @param passiveControllerFactory The factory for passive aura controllers
+	 * @throws IllegalStateException If the services have already been published
+	 */
+	public static synchronized void publish(ITransmutationRecipeHandler transmutationRecipeHandler, IUpgradeRegistry upgradeRegistry,
+	                                        IAuraControllerFactory passiveControllerFactory) {
+		if (DartCraft2Services.transmutationRecipeHandler != null)
+			throw new IllegalStateException("The DartCraft 2 services have already been published!");
+		//The handler is written last since it's what getters check to see if everything is available
+		DartCraft2Services.upgradeRegistry = upgradeRegistry;
+		DartCraft2Services.passiveControllerFactory = passiveControllerFactory;
+		DartCraft2Services.transmutationRecipeHandler = transmutationRecipeHandler;
+	}
+	
+	/**
+	 * @return The transmutation recipe handler, or null if it hasn't been published yet
+	 */
+	public static ITransmutationRecipeHandler getTransmutationRecipeHandler() {
+		return transmutationRecipeHandler;
+	}
+	
+	/**
+	 * @return The upgrade registry, or null if it hasn't been published yet
+	 */
+	public static IUpgradeRegistry getUpgradeRegistry() {
+		return upgradeRegistry;
+	}
+	
+	/**
+	 * @return The passive aura controller factory, or null if it hasn't been published yet
+	 */
+	public static IAuraControllerFactory getPassiveControllerFactory() {
+		return passiveControllerFactory;
+	}
+}
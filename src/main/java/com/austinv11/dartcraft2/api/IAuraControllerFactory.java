@@ -0,0 +1,19 @@
+package com.austinv11.dartcraft2.api;
+
+import net.minecraft.world.World;
+
+/**
+ * Creates the passive aura controller used when there isn't an {@link IAuraController} near a location
+ */
+public interface IAuraControllerFactory {
+	
+	/**
+	 * Creates a passive controller for the given location
+	 * @param world The world
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @return The controller
+	 */
+	public IAuraController createPassiveController(World world, int x, int y, int z);
+}
@@ -134,15 +134,15 @@ public interface ITransmutationRecipeHandler {
 		
 		@Override
 		public boolean equals(Object other) {
+			//Compared by instance, numeric ids change when FML remaps them and every unregistered block has the id -1
 			if (other instanceof BlockInfo)
-				return Block.getIdFromBlock(((BlockInfo) other).block) == Block.getIdFromBlock(block) 
-						&& ((BlockInfo) other).meta == meta;
+				return ((BlockInfo) other).block == block && ((BlockInfo) other).meta == meta;
 			return false;
 		}
 		
 		@Override
-		public int hashCode() { //Done to allow for use as keys in HashMaps
-			return 0;
+		public int hashCode() {
+			return System.identityHashCode(block)*31+meta;
 		}
 	}
 	
@@ -161,15 +161,15 @@ public interface ITransmutationRecipeHandler {
 		
 		@Override
 		public boolean equals(Object other) {
+			//Compared by instance, numeric ids change when FML remaps them and every unregistered item has the id -1
 			if (other instanceof ItemInfo)
-				return Item.getIdFromItem(((ItemInfo) other).item) == Item.getIdFromItem(item) 
-						&& ((ItemInfo) other).meta == meta;
+				return ((ItemInfo) other).item == item && ((ItemInfo) other).meta == meta;
 			return false;
 		}
 		
 		@Override
-		public int hashCode() { //Done to allow for use as keys in HashMaps
-			return 0;
+		public int hashCode() {
+			return System.identityHashCode(item)*31+meta;
 		}
 	}
 }
@@ -1,12 +1,23 @@
 package com.austinv11.dartcraft2.api.implementations;
 
 import com.austinv11.dartcraft2.api.*;
+import com.austinv11.dartcraft2.metrics.Metrics;
+import com.austinv11.dartcraft2.profiling.CallWatchdog;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
 import com.austinv11.dartcraft2.reference.Config;
 import net.minecraft.util.Vec3;
 import net.minecraft.world.World;
 
 public class PassiveAuraController implements IAuraController {
 	
+	public static final IAuraControllerFactory FACTORY = new IAuraControllerFactory() {
+		@Override
+		public IAuraController createPassiveController(World world, int x, int y, int z) {
+			return new PassiveAuraController(world, x, y, z);
+		}
+	};
+	
 	private World world;
 	private int x, y, z, range;
 	
@@ -24,6 +35,7 @@ public class PassiveAuraController implements IAuraController {
 	
 	@Override
 	public void burst() {
+		long start = TickProfiler.start();
 		int aura = 0;
 		for (AuraLocation<IPassiveAuraEmitter> emitter : DartCraft2API.findAllPassiveEmittersWithinRange(world, x, y, z, range)) {
 			double maxRange = emitter.getAuraObject().getPotency() * range;
@@ -36,7 +48,16 @@ public class PassiveAuraController implements IAuraController {
 		for (AuraLocation<IAuraAbsorber> absorber : DartCraft2API.findAllAbsorbersWithinRange(world, x, y, z, range)) {
 			if (aura <= 0)
 				break;
-			aura -= absorber.getAuraObject().receiveAuraBurst(aura);
+			IAuraAbsorber object = absorber.getAuraObject();
+			if (CallWatchdog.isSuspended(object))
+				continue;
+			long call = CallWatchdog.begin(object, world, absorber.getX(), absorber.getY(), absorber.getZ());
+			int received = object.receiveAuraBurst(aura);
+			CallWatchdog.end(call);
+			aura -= received;
+			Metrics.AURA_MOVED.add(received);
 		}
+		Metrics.AURA_BURSTS.increment();
+		TickProfiler.stop(Subsystem.AURA_BURST, start, world, x, y, z);
 	}
 }
@@ -2,19 +2,22 @@ package com.austinv11.dartcraft2.api.implementations;
 
 import com.austinv11.dartcraft2.api.FailedAPIRequest;
 import com.austinv11.dartcraft2.api.ITransmutationRecipeHandler;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockSapling;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemBlock;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Registrations copy the recipes into a new immutable snapshot, so lookups from any thread are lock free
+ */
 public class TransmutationRecipeHandler implements ITransmutationRecipeHandler {
 	
-	private final Map<ItemInfo, ItemInfo> transmutationMap = new HashMap<ItemInfo, ItemInfo>();
+	private volatile Snapshot snapshot = new Snapshot(ImmutableMap.<ItemInfo, ItemInfo>of());
 	
 	@Override
 	public void addTransmutation(Block fromBlock, Block toBlock) throws FailedAPIRequest {
@@ -52,17 +55,17 @@ public class TransmutationRecipeHandler implements ITransmutationRecipeHandler {
 	}
 	
 	@Override
-	public void addTransmutation(Item fromItem, int fromMeta, Item toItem, int toMeta) throws FailedAPIRequest {
-		if (transmutationMap.containsKey(new ItemInfo(fromItem, fromMeta)))
+	public synchronized void addTransmutation(Item fromItem, int fromMeta, Item toItem, int toMeta) throws FailedAPIRequest {
+		ItemInfo from = new ItemInfo(fromItem, fromMeta);
+		Map<ItemInfo, ItemInfo> current = snapshot.transmutations;
+		if (current.containsKey(from))
 			throw new FailedAPIRequest("Item "+fromItem+" already has a transmutation recipe!");
-		transmutationMap.put(new ItemInfo(fromItem, fromMeta), new ItemInfo(toItem, toMeta));
+		snapshot = new Snapshot(ImmutableMap.<ItemInfo, ItemInfo>builder().putAll(current).put(from, new ItemInfo(toItem, toMeta)).build());
 	}
 	
 	@Override
 	public List<ItemInfo> getTransmutableItems() {
-		ArrayList<ItemInfo> items = new ArrayList<ItemInfo>();
-		items.addAll(transmutationMap.keySet());
-		return items;
+		return snapshot.items;
 	}
 	
 	@Override
@@ -73,17 +76,13 @@ public class TransmutationRecipeHandler implements ITransmutationRecipeHandler {
 	@Override
 	public ItemInfo getAvailableTransmutation(Item toTransmute, int meta) {
 		if (toTransmute instanceof ItemBlock && Block.getBlockFromItem(toTransmute) instanceof BlockSapling)
-			return transmutationMap.get(new ItemInfo(toTransmute, Block.getBlockFromItem(toTransmute).damageDropped(meta))); //Dammit mojang
-		return transmutationMap.get(new ItemInfo(toTransmute, meta));
+			return snapshot.transmutations.get(new ItemInfo(toTransmute, Block.getBlockFromItem(toTransmute).damageDropped(meta))); //Dammit mojang
+		return snapshot.transmutations.get(new ItemInfo(toTransmute, meta));
 	}
 	
 	@Override
 	public List<BlockInfo> getTransmutableBlocks() {
-		ArrayList<BlockInfo> items = new ArrayList<BlockInfo>();
-		for (ItemInfo i : transmutationMap.keySet())
-			if (i.item instanceof ItemBlock)
-				items.add(new BlockInfo(Block.getBlockFromItem(i.item), i.meta));
-		return items;
+		return snapshot.blocks;
 	}
 	
 	@Override
@@ -98,4 +97,21 @@ public class TransmutationRecipeHandler implements ITransmutationRecipeHandler {
 			return new BlockInfo(Block.getBlockFromItem(info.item), meta);
 		return null;
 	}
+	
+	private static class Snapshot {
+		
+		private final ImmutableMap<ItemInfo, ItemInfo> transmutations;
+		private final ImmutableList<ItemInfo> items;
+		private final ImmutableList<BlockInfo> blocks;
+		
+		private Snapshot(ImmutableMap<ItemInfo, ItemInfo> transmutations) {
+			this.transmutations = transmutations;
+			this.items = transmutations.keySet().asList();
+			ImmutableList.Builder<BlockInfo> builder = ImmutableList.builder();
+			for (ItemInfo i : transmutations.keySet())
+				if (i.item instanceof ItemBlock)
+					builder.add(new BlockInfo(Block.getBlockFromItem(i.item), i.meta));
+			this.blocks = builder.build();
+		}
+	}
 }
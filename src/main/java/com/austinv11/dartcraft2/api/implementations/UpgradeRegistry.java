@@ -4,72 +4,109 @@ import com.austinv11.dartcraft2.api.*;
 import com.google.common.collect.ImmutableSet;
 import net.minecraft.item.Item;
 
-import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.List;
 import java.util.Set;
 
+/**
+ * Registrations copy the registry into a new immutable snapshot (with every query precomputed), so reads from any
+ * thread are lock free. Tool types are read when a tool or armor piece is registered.
+ */
 public class UpgradeRegistry implements IUpgradeRegistry {
 	
-	private List<IForceUpgrade> upgrades = new ArrayList<IForceUpgrade>();
-	private List<IForceArmor> armor = new ArrayList<IForceArmor>();
-	private List<IForceTool> tools = new ArrayList<IForceTool>();
-	
+	private volatile Snapshot snapshot = new Snapshot(ImmutableSet.<IForceUpgrade>of(), ImmutableSet.<IForceArmor>of(), 
+			ImmutableSet.<IForceTool>of());
 	
 	@Override
 	public Set<Item> getRegisteredItems() {
-		ImmutableSet.Builder<Item> builder = ImmutableSet.builder();
-		for (IForceUpgrade upgrade : upgrades)
-			builder.add(upgrade.getItem());
-		return builder.build();
+		return snapshot.registeredItems;
 	}
 	
 	@Override
 	public Set<IForceUpgrade> getUpgrades() {
-		return ImmutableSet.copyOf(upgrades);
+		return snapshot.upgrades;
 	}
 	
 	@Override
 	public Set<Item> getTools() {
-		return getTools(EnumSet.allOf(ToolType.class));
+		return snapshot.allTools;
 	}
 	
 	@Override
 	public Set<Item> getTools(EnumSet<ToolType> filter) {
+		Snapshot current = snapshot;
+		if (filter.size() == 1)
+			return current.toolsByType.get(filter.iterator().next());
+		if (filter.size() == ToolType.values().length)
+			return current.allTools;
 		ImmutableSet.Builder<Item> builder = ImmutableSet.builder();
-		for (ToolType t : filter) {
-			for (IForceTool tool : tools)
-				if (tool.getToolTypes().contains(t))
-					builder.add((Item) tool);
-			for (IForceArmor armor : this.armor)
-				if (armor.getToolTypes().contains(t))
-					builder.add((Item) armor);
-		}
+		for (ToolType t : filter)
+			builder.addAll(current.toolsByType.get(t));
 		return builder.build();
 	}
 	
 	@Override
 	public Set<IForceArmor> getForceArmor() {
-		return ImmutableSet.copyOf(armor);
+		return snapshot.armor;
 	}
 	
 	@Override
 	public Set<IForceTool> getForceTools() {
-		return ImmutableSet.copyOf(tools);
+		return snapshot.tools;
 	}
 	
 	@Override
-	public void registerUpgrade(IForceUpgrade upgrade) {
-		upgrades.add(upgrade);
+	public synchronized void registerUpgrade(IForceUpgrade upgrade) {
+		Snapshot current = snapshot;
+		snapshot = new Snapshot(ImmutableSet.<IForceUpgrade>builder().addAll(current.upgrades).add(upgrade).build(), 
+				current.armor, current.tools);
 	}
 	
 	@Override
-	public void registerTool(IForceTool tool) {
-		tools.add(tool);
+	public synchronized void registerTool(IForceTool tool) {
+		Snapshot current = snapshot;
+		snapshot = new Snapshot(current.upgrades, current.armor, 
+				ImmutableSet.<IForceTool>builder().addAll(current.tools).add(tool).build());
 	}
 	
 	@Override
-	public void registerArmor(IForceArmor armor) {
-		this.armor.add(armor);
+	public synchronized void registerArmor(IForceArmor armor) {
+		Snapshot current = snapshot;
+		snapshot = new Snapshot(current.upgrades, ImmutableSet.<IForceArmor>builder().addAll(current.armor).add(armor).build(), 
+				current.tools);
+	}
+	
+	private static class Snapshot {
+		
+		private final ImmutableSet<IForceUpgrade> upgrades;
+		private final ImmutableSet<IForceArmor> armor;
+		private final ImmutableSet<IForceTool> tools;
+		private final ImmutableSet<Item> registeredItems;
+		private final ImmutableSet<Item> allTools;
+		private final EnumMap<ToolType, ImmutableSet<Item>> toolsByType = new EnumMap<ToolType, ImmutableSet<Item>>(ToolType.class);
+		
+		private Snapshot(ImmutableSet<IForceUpgrade> upgrades, ImmutableSet<IForceArmor> armor, ImmutableSet<IForceTool> tools) {
+			this.upgrades = upgrades;
+			this.armor = armor;
+			this.tools = tools;
+			ImmutableSet.Builder<Item> items = ImmutableSet.builder();
+			for (IForceUpgrade upgrade : upgrades)
+				items.add(upgrade.getItem());
+			this.registeredItems = items.build();
+			ImmutableSet.Builder<Item> all = ImmutableSet.builder();
+			for (ToolType t : ToolType.values()) {
+				ImmutableSet.Builder<Item> builder = ImmutableSet.builder();
+				for (IForceTool tool : tools)
+					if (tool.getToolTypes().contains(t))
+						builder.add((Item) tool);
+				for (IForceArmor piece : armor)
+					if (piece.getToolTypes().contains(t))
+						builder.add((Item) piece);
+				ImmutableSet<Item> forType = builder.build();
+				toolsByType.put(t, forType);
+				all.addAll(forType);
+			}
+			this.allTools = all.build();
+		}
 	}
 }
@@ -4,6 +4,7 @@ import com.austinv11.dartcraft2.creativetab.CreativeTabDC;
 import com.austinv11.dartcraft2.init.ModBlocks;
 import com.austinv11.dartcraft2.init.ModItems;
 import com.austinv11.dartcraft2.particles.BreakEffect;
+import com.austinv11.dartcraft2.particles.ParticleManager;
 import com.austinv11.dartcraft2.proxy.ClientProxy;
 import com.austinv11.dartcraft2.reference.Reference;
 import cpw.mods.fml.relauncher.Side;
@@ -75,9 +76,9 @@ public class BlockForceLeaves extends BlockLeaves {
 	@SideOnly(Side.CLIENT)
 	public void randomDisplayTick(World world, int x, int y, int z, Random random) {
 		if (MathHelper.getRandomIntegerInRange(random, 0, 3) == 1) {
-			BreakEffect effect = new BreakEffect(world, x+.5+(random.nextGaussian()/3), y+.5+(random.nextGaussian()/3), z+.5+(random.nextGaussian()/3), random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
-			effect.setGravity(.25F);
-			Minecraft.getMinecraft().effectRenderer.addEffect(effect);
+			BreakEffect effect = ParticleManager.INSTANCE.spawnBreakEffect(world, x+.5+(random.nextGaussian()/3), y+.5+(random.nextGaussian()/3), z+.5+(random.nextGaussian()/3), random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+			if (effect != null)
+				effect.setGravity(.25F);
 		}
 		
 	}
@@ -153,7 +154,7 @@ public class BlockForceLeaves extends BlockLeaves {
 	@SideOnly(Side.CLIENT)
 	public boolean addHitEffects(World worldObj, MovingObjectPosition target, EffectRenderer effectRenderer) {
 		Double[] coords = getOffsetCoordsForSide(target.blockX+.5, target.blockY+.5, target.blockZ+.5, target.sideHit);
-		effectRenderer.addEffect(new BreakEffect(worldObj, coords[0], coords[1], coords[2], rng.nextGaussian(), rng.nextGaussian(), rng.nextGaussian()));
+		ParticleManager.INSTANCE.spawnBreakEffect(worldObj, coords[0], coords[1], coords[2], rng.nextGaussian(), rng.nextGaussian(), rng.nextGaussian(), effectRenderer);
 		return true;
 	}
 	
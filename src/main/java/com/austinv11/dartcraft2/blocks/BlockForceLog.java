@@ -1,7 +1,7 @@
 package com.austinv11.dartcraft2.blocks;
 
 import com.austinv11.dartcraft2.creativetab.CreativeTabDC;
-import com.austinv11.dartcraft2.particles.BreakEffect;
+import com.austinv11.dartcraft2.particles.ParticleManager;
 import com.austinv11.dartcraft2.proxy.ClientProxy;
 import com.austinv11.dartcraft2.reference.Reference;
 import cpw.mods.fml.relauncher.Side;
@@ -75,7 +75,7 @@ public class BlockForceLog extends BlockLog {
 	@SideOnly(Side.CLIENT)
 	public boolean addHitEffects(World worldObj, MovingObjectPosition target, EffectRenderer effectRenderer) {
 		Double[] coords = getOffsetCoordsForSide(target.blockX+.5, target.blockY+.5, target.blockZ+.5, target.sideHit);
-		effectRenderer.addEffect(new BreakEffect(worldObj, coords[0], coords[1], coords[2], rng.nextGaussian(), rng.nextGaussian(), rng.nextGaussian()));
+		ParticleManager.INSTANCE.spawnBreakEffect(worldObj, coords[0], coords[1], coords[2], rng.nextGaussian(), rng.nextGaussian(), rng.nextGaussian(), effectRenderer);
 		return true;
 	}
 	
@@ -0,0 +1,49 @@
+package com.austinv11.dartcraft2.blocks;
+
+import com.austinv11.dartcraft2.tileentities.TileEntityForcePipe;
+import net.minecraft.block.Block;
+import net.minecraft.block.ITileEntityProvider;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+
+public class BlockForcePipe extends BlockDC implements ITileEntityProvider {
+	
+	public BlockForcePipe() {
+		super();
+		this.setBlockName("forcePipe");
+		this.setHardness(1F);
+		this.setBlockBounds(.3125F, .3125F, .3125F, .6875F, .6875F, .6875F);
+	}
+	
+	@Override
+	public boolean renderAsNormalBlock() {
+		return false;
+	}
+	
+	@Override
+	public boolean isOpaqueCube() {
+		return false;
+	}
+	
+	@Override
+	public TileEntity createNewTileEntity(World world, int meta) {
+		return new TileEntityForcePipe();
+	}
+	
+	@Override
+	public void onNeighborBlockChange(World world, int x, int y, int z, Block block) {
+		super.onNeighborBlockChange(world, x, y, z, block);
+		TileEntity te = world.getTileEntity(x, y, z);
+		if (!world.isRemote && te instanceof TileEntityForcePipe)
+			((TileEntityForcePipe) te).onNeighborChanged();
+	}
+	
+	@Override
+	public void onNeighborChange(IBlockAccess world, int x, int y, int z, int tileX, int tileY, int tileZ) {
+		super.onNeighborChange(world, x, y, z, tileX, tileY, tileZ);
+		TileEntity te = world.getTileEntity(x, y, z);
+		if (te instanceof TileEntityForcePipe && !te.getWorldObj().isRemote)
+			((TileEntityForcePipe) te).onNeighborChanged();
+	}
+}
@@ -4,23 +4,23 @@ import com.austinv11.collectiveframework.minecraft.utils.Location;
 import com.austinv11.collectiveframework.minecraft.utils.StructureCreator;
 import com.austinv11.dartcraft2.creativetab.CreativeTabDC;
 import com.austinv11.dartcraft2.init.ModBlocks;
-import com.austinv11.dartcraft2.particles.BreakEffect;
+import com.austinv11.dartcraft2.metrics.Metrics;
+import com.austinv11.dartcraft2.particles.ParticleManager;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
 import com.austinv11.dartcraft2.proxy.ClientProxy;
 import com.austinv11.dartcraft2.reference.Reference;
-import com.austinv11.dartcraft2.tileentities.TileEntityForceSapling;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockBush;
 import net.minecraft.block.IGrowable;
-import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.particle.EffectRenderer;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.IIcon;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.MovingObjectPosition;
@@ -31,7 +31,7 @@ import java.util.List;
 import java.util.Random;
 
 //Most of this is taken from the vanilla BlockSapling
-public class BlockForceSapling extends BlockBush implements IGrowable, ITileEntityProvider {
+public class BlockForceSapling extends BlockBush implements IGrowable {
 	
 	private Random rng = new Random();
 	
@@ -53,16 +53,19 @@ public class BlockForceSapling extends BlockBush implements IGrowable, ITileEnti
 			super.updateTick(world, x, y, z, random);
 			
 			if (world.getBlockLightValue(x, y + 1, z) >= 9 && random.nextInt(7) == 0) {
+				long start = TickProfiler.start();
 				generateTree(world, x, y, z, random);
+				TickProfiler.stop(Subsystem.SAPLING_GROWTH, start, world, x, y, z);
 			}
 		}
 	}
 	
 	public void generateTree(World world, int x, int y, int z, Random random) {
-		if (((TileEntityForceSapling)world.getTileEntity(x, y, z)).currentCycle < TileEntityForceSapling.MAX_CYCLES) {
-			((TileEntityForceSapling)world.getTileEntity(x, y, z)).currentCycle++;
+		int cycle = SaplingGrowthTable.INSTANCE.getCycle(world, x, y, z);
+		if (cycle < SaplingGrowthTable.MAX_CYCLES) {
+			SaplingGrowthTable.INSTANCE.setCycle(world, x, y, z, cycle+1);
 		} else {
-			((TileEntityForceSapling)world.getTileEntity(x, y, z)).currentCycle = 0;
+			SaplingGrowthTable.INSTANCE.setCycle(world, x, y, z, 0);
 			if (!net.minecraftforge.event.terraingen.TerrainGen.saplingGrowTree(world, random, x, y, z))
 				return;
 			
@@ -311,6 +314,7 @@ public class BlockForceSapling extends BlockBush implements IGrowable, ITileEnti
 				
 				if (structureCreator.isStructureValid()) {
 					structureCreator.generateStructure();
+					Metrics.TREES_GROWN.increment();
 				} else {
 					for (Location l : saplings)
 						l.getWorld().setBlock(l.getRoundedX(), l.getRoundedY(), l.getRoundedZ(), ModBlocks.forceSapling, meta, 0);
@@ -321,6 +325,7 @@ public class BlockForceSapling extends BlockBush implements IGrowable, ITileEnti
 			world.setBlockToAir(x, y, z);
 			if (structureCreator.isStructureValid()) {
 				structureCreator.generateStructure();
+				Metrics.TREES_GROWN.increment();
 			} else {
 				world.setBlock(x, y, z, ModBlocks.forceSapling, meta, 0);
 			}
@@ -396,7 +401,7 @@ public class BlockForceSapling extends BlockBush implements IGrowable, ITileEnti
 	@SideOnly(Side.CLIENT)
 	public boolean addHitEffects(World worldObj, MovingObjectPosition target, EffectRenderer effectRenderer) {
 		Double[] coords = getOffsetCoordsForSide(target.blockX+.5, target.blockY+.5, target.blockZ+.5, target.sideHit);
-		effectRenderer.addEffect(new BreakEffect(worldObj, coords[0], coords[1], coords[2], rng.nextGaussian(), rng.nextGaussian(), rng.nextGaussian()));
+		ParticleManager.INSTANCE.spawnBreakEffect(worldObj, coords[0], coords[1], coords[2], rng.nextGaussian(), rng.nextGaussian(), rng.nextGaussian(), effectRenderer);
 		return true;
 	}
 	
@@ -452,12 +457,15 @@ public class BlockForceSapling extends BlockBush implements IGrowable, ITileEnti
 	
 	@Override
 	public void func_149853_b(World world, Random random, int x, int y, int z) {
+		long start = TickProfiler.start();
 		generateTree(world, x, y, z, random);
+		TickProfiler.stop(Subsystem.SAPLING_GROWTH, start, world, x, y, z);
 	}
 	
 	@Override
-	public TileEntity createNewTileEntity(World world, int meta) {
-		return new TileEntityForceSapling();
+	public void breakBlock(World world, int x, int y, int z, Block block, int meta) {
+		super.breakBlock(world, x, y, z, block, meta);
+		SaplingGrowthTable.INSTANCE.setCycle(world, x, y, z, 0);
 	}
 	
 	private class LeafValidityChecker implements StructureCreator.ICheckBlockValidity {
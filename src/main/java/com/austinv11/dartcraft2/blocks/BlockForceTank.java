@@ -0,0 +1,74 @@
+package com.austinv11.dartcraft2.blocks;
+
+import com.austinv11.dartcraft2.init.ModFluids;
+import com.austinv11.dartcraft2.tileentities.TileEntityForceTank;
+import net.minecraft.block.ITileEntityProvider;
+import net.minecraft.block.material.Material;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidContainerRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+
+public class BlockForceTank extends BlockDC implements ITileEntityProvider {
+	
+	public BlockForceTank() {
+		super(Material.glass);
+		this.setBlockName("forceTank");
+		this.setHardness(2F);
+	}
+	
+	@Override
+	public boolean isOpaqueCube() {
+		return false;
+	}
+	
+	@Override
+	public TileEntity createNewTileEntity(World world, int meta) {
+		return new TileEntityForceTank();
+	}
+	
+	@Override
+	public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int meta, float hitX, float hitY, float hitZ) {
+		ItemStack held = player.getCurrentEquippedItem();
+		TileEntity te = world.getTileEntity(x, y, z);
+		if (held == null || !(te instanceof TileEntityForceTank))
+			return false;
+		FluidTank tank = ((TileEntityForceTank) te).liquidForceTank;
+		FluidStack contained = FluidContainerRegistry.getFluidForFilledItem(held);
+		if (contained != null) { //Emptying a bucket into the tank
+			if (contained.getFluid() != ModFluids.liquidForce)
+				return false;
+			if (!world.isRemote && tank.fill(contained, false) == contained.amount) {
+				tank.fill(contained, true);
+				giveContainer(player, held, FluidContainerRegistry.drainFluidContainer(held));
+				te.markDirty();
+			}
+			return true;
+		}
+		if (FluidContainerRegistry.isEmptyContainer(held) && tank.getFluid() != null) { //Filling a bucket from the tank
+			ItemStack filled = FluidContainerRegistry.fillFluidContainer(tank.getFluid(), held);
+			if (filled == null)
+				return false;
+			if (!world.isRemote) {
+				tank.drain(FluidContainerRegistry.getFluidForFilledItem(filled).amount, true);
+				giveContainer(player, held, filled);
+				te.markDirty();
+			}
+			return true;
+		}
+		return false;
+	}
+	
+	private void giveContainer(EntityPlayer player, ItemStack held, ItemStack container) {
+		if (player.capabilities.isCreativeMode)
+			return;
+		held.stackSize--;
+		if (held.stackSize <= 0)
+			player.inventory.setInventorySlotContents(player.inventory.currentItem, null);
+		if (container != null && !player.inventory.addItemStackToInventory(container))
+			player.dropPlayerItemWithRandomChoice(container, false);
+	}
+}
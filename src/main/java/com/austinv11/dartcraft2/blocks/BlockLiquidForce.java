@@ -1,6 +1,9 @@
 package com.austinv11.dartcraft2.blocks;
 
 import com.austinv11.dartcraft2.init.ModFluids;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
+import com.austinv11.dartcraft2.reference.Config;
 import com.austinv11.dartcraft2.reference.Reference;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -21,6 +24,8 @@ import net.minecraft.world.World;
 import net.minecraftforge.fluids.BlockFluidClassic;
 import net.minecraftforge.fluids.Fluid;
 
+import java.util.WeakHashMap;
+
 public class BlockLiquidForce extends BlockFluidClassic {
 	
 	@SideOnly(Side.CLIENT)
@@ -28,6 +33,9 @@ public class BlockLiquidForce extends BlockFluidClassic {
 	@SideOnly(Side.CLIENT)
 	protected IIcon flowingIcon;
 	
+	//The world time at which each entity can next be affected, so entities touching several blocks are handled once
+	private final WeakHashMap<Entity, Long> nextEffectTimes = new WeakHashMap<Entity, Long>();
+	
 	public BlockLiquidForce(Fluid fluid, Material material) {
 		super(fluid, material);
 		this.setBlockName("liquidForce");
@@ -77,30 +85,40 @@ public class BlockLiquidForce extends BlockFluidClassic {
 	@Override
 	public void onEntityCollidedWithBlock(World world, int x, int y, int z, Entity entity) {
 		super.onEntityCollidedWithBlock(world, x, y, z, entity);
+		long start = TickProfiler.start();
+		applyEffects(world, x, y, z, entity);
+		TickProfiler.stop(Subsystem.LIQUID_FORCE_COLLISION, start, world, x, y, z);
+	}
+	
+	private void applyEffects(World world, int x, int y, int z, Entity entity) {
+		if (world.isRemote || !Config.enableExtraLiquidForceEffects || !(entity instanceof EntityLivingBase))
+			return;
+		long time = world.getTotalWorldTime();
+		Long nextEffectTime = nextEffectTimes.get(entity);
+		if (nextEffectTime != null && time < nextEffectTime)
+			return;
+		nextEffectTimes.put(entity, time+Math.max(1, Config.liquidForceEffectCooldown));
 		
-		if (entity instanceof EntityLivingBase) {
-			
-			if (((EntityLivingBase) entity).getActivePotionEffect(Potion.regeneration) == null)
-				((EntityLivingBase) entity).addPotionEffect(new PotionEffect(Potion.regeneration.id, 80, 0, true));
-			entity.setAir(300);
+		if (((EntityLivingBase) entity).getActivePotionEffect(Potion.regeneration) == null)
+			((EntityLivingBase) entity).addPotionEffect(new PotionEffect(Potion.regeneration.id, 80, 0, true));
+		entity.setAir(300);
+		
+		if (entity instanceof EntityMob) {
+			if (((EntityMob) entity).getActivePotionEffect(Potion.weakness) == null)
+				((EntityMob) entity).addPotionEffect(new PotionEffect(Potion.weakness.id, 80, 0, true));
 			
-			if (entity instanceof EntityMob) {
-				if (((EntityMob) entity).getActivePotionEffect(Potion.weakness) == null)
-					((EntityMob) entity).addPotionEffect(new PotionEffect(Potion.weakness.id, 80, 0, true));
-				
-				for (int i = entity instanceof EntitySkeleton ? 1 : 0; i < 5; i++) {
-					ItemStack equipment = ((EntityMob) entity).getEquipmentInSlot(i);
-					if (equipment != null) {
-						world.spawnEntityInWorld(new EntityItem(world, x, y+1, z, equipment));
-						entity.setCurrentItemOrArmor(i, null);
-					}
+			for (int i = entity instanceof EntitySkeleton ? 1 : 0; i < 5; i++) {
+				ItemStack equipment = ((EntityMob) entity).getEquipmentInSlot(i);
+				if (equipment != null) {
+					world.spawnEntityInWorld(new EntityItem(world, x, y+1, z, equipment));
+					entity.setCurrentItemOrArmor(i, null);
 				}
-				
-				if (!((EntityMob) entity).isChild())
-					if (entity instanceof EntityZombie) {
-						((EntityZombie) entity).setChild(true);
-					}
 			}
+			
+			if (!((EntityMob) entity).isChild())
+				if (entity instanceof EntityZombie) {
+					((EntityZombie) entity).setChild(true);
+				}
 		}
 	}
 }
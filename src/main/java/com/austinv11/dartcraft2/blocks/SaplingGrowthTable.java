@@ -0,0 +1,193 @@
+package com.austinv11.dartcraft2.blocks;
+
+import com.austinv11.dartcraft2.tileentities.TileEntityForceSapling;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.HashMap;
+import java.util.WeakHashMap;
+
+/**
+ * Holds the growth cycle of every force sapling which has started growing, so saplings don't need tile entities.
+ * Each chunk keeps a sorted array with one int per growing sapling, the sapling's position within the chunk in the
+ * upper bits and its cycle in the lowest two. Saplings on cycle 0 aren't stored at all. The arrays are saved with the
+ * chunk and saplings from before this still have their cycle moved over from their old tile entity when the chunk loads.
+ */
+public class SaplingGrowthTable {
+
+	public static final SaplingGrowthTable INSTANCE = new SaplingGrowthTable();
+
+	public static final int MAX_CYCLES = 3;
+
+	private static final String TAG = "DartCraft2SaplingCycles";
+
+	private final WeakHashMap<World, HashMap<Long, int[]>> worlds = new WeakHashMap<World, HashMap<Long, int[]>>();
+
+	private SaplingGrowthTable() {}
+
+	/**
+	 * Gets the growth cycle of a sapling
+	 * @param world The world
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @return The cycle, 0 to {@link #MAX_CYCLES}
+	 */
+	public int getCycle(World world, int x, int y, int z) {
+		int[] entries = getEntries(world, x >> 4, z >> 4, false);
+		if (entries == null)
+			return 0;
+		int found = find(entries, getIndex(x, y, z));
+		return found < 0 ? 0 : entries[found] & 3;
+	}
+
+	/**
+	 * Sets the growth cycle of a sapling
+	 * @param world The world
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @param cycle The cycle, 0 to {@link #MAX_CYCLES}, 0 forgets the sapling
+	 */
+	public void setCycle(World world, int x, int y, int z, int cycle) {
+		if (store(world, x, y, z, cycle) && world instanceof WorldServer) //Only server chunks are saved
+			world.getChunkFromBlockCoords(x, z).setChunkModified();
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkDataEvent.Load event) {
+		World world = event.world;
+		if (world.isRemote)
+			return;
+		NBTTagCompound level = event.getData().getCompoundTag("Level");
+		int chunkX = event.getChunk().xPosition, chunkZ = event.getChunk().zPosition;
+		int[] entries = level.getIntArray(TAG);
+		putEntries(world, chunkX, chunkZ, entries.length > 0 ? entries.clone() : null);
+		//Saplings used to keep their cycle in a tile entity, which isn't created anymore as the block no longer has one
+		NBTTagList tiles = level.getTagList("TileEntities", 10);
+		for (int i = 0; i < tiles.tagCount(); i++) {
+			NBTTagCompound tile = tiles.getCompoundTagAt(i);
+			if (TileEntityForceSapling.publicName.equals(tile.getString("id"))) {
+				store(world, tile.getInteger("x"), tile.getInteger("y"), tile.getInteger("z"),
+						Math.max(0, Math.min(MAX_CYCLES, tile.getInteger("currentCycle"))));
+				event.getChunk().setChunkModified(); //So the chunk is saved again without the old tile entity
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkSave(ChunkDataEvent.Save event) {
+		World world = event.world;
+		if (world.isRemote)
+			return;
+		int chunkX = event.getChunk().xPosition, chunkZ = event.getChunk().zPosition;
+		int[] entries = getEntries(world, chunkX, chunkZ, false);
+		if (entries != null && entries.length > 0)
+			event.getData().getCompoundTag("Level").setIntArray(TAG, entries.clone());
+		//Chunks are unloaded before their final save, so their saplings are only forgotten once they've been written
+		if (!event.getChunk().isChunkLoaded)
+			putEntries(world, chunkX, chunkZ, null);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.world);
+	}
+
+	/**
+	 * Stores a sapling's cycle without touching the world
+	 * @return True if the cycle changed
+	 */
+	private boolean store(World world, int x, int y, int z, int cycle) {
+		int index = getIndex(x, y, z);
+		int[] entries = getEntries(world, x >> 4, z >> 4, cycle != 0);
+		if (entries == null)
+			return false;
+		int found = find(entries, index);
+		if (found >= 0) {
+			if ((entries[found] & 3) == cycle)
+				return false;
+			if (cycle == 0) {
+				int[] smaller = new int[entries.length-1];
+				System.arraycopy(entries, 0, smaller, 0, found);
+				System.arraycopy(entries, found+1, smaller, found, entries.length-found-1);
+				putEntries(world, x >> 4, z >> 4, smaller);
+			} else {
+				entries[found] = index << 2 | cycle;
+			}
+		} else {
+			if (cycle == 0)
+				return false;
+			int insertAt = -found-1;
+			int[] larger = new int[entries.length+1];
+			System.arraycopy(entries, 0, larger, 0, insertAt);
+			larger[insertAt] = index << 2 | cycle;
+			System.arraycopy(entries, insertAt, larger, insertAt+1, entries.length-insertAt);
+			putEntries(world, x >> 4, z >> 4, larger);
+		}
+		return true;
+	}
+
+	private int[] getEntries(World world, int chunkX, int chunkZ, boolean create) {
+		HashMap<Long, int[]> chunks = worlds.get(world);
+		if (chunks == null) {
+			if (!create)
+				return null;
+			chunks = new HashMap<Long, int[]>();
+			worlds.put(world, chunks);
+		}
+		long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		int[] entries = chunks.get(key);
+		if (entries == null && create) {
+			entries = new int[0];
+			chunks.put(key, entries);
+		}
+		return entries;
+	}
+
+	private void putEntries(World world, int chunkX, int chunkZ, int[] entries) {
+		HashMap<Long, int[]> chunks = worlds.get(world);
+		if (entries == null || entries.length == 0) {
+			if (chunks != null)
+				chunks.remove(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+			return;
+		}
+		if (chunks == null) {
+			chunks = new HashMap<Long, int[]>();
+			worlds.put(world, chunks);
+		}
+		chunks.put(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ), entries);
+	}
+
+	/**
+	 * Packs a position into its index within the chunk, y then z then x
+	 */
+	private static int getIndex(int x, int y, int z) {
+		return (y & 0xFF) << 8 | (z & 15) << 4 | (x & 15);
+	}
+
+	/**
+	 * Binary searches the entries for an index
+	 * @return The position of the entry, or -(insertion point)-1 if there isn't one
+	 */
+	private static int find(int[] entries, int index) {
+		int low = 0, high = entries.length-1;
+		while (low <= high) {
+			int middle = (low+high) >>> 1;
+			int middleIndex = entries[middle] >>> 2;
+			if (middleIndex < index)
+				low = middle+1;
+			else if (middleIndex > index)
+				high = middle-1;
+			else
+				return middle;
+		}
+		return -(low+1);
+	}
+}
@@ -10,6 +10,8 @@ import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.gui.inventory.GuiContainer;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.Slot;
+import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.StatCollector;
 import org.lwjgl.opengl.GL11;
@@ -104,21 +106,33 @@ public class GuiClipboard extends GuiContainer {
 		}
 	}
 	
+	@Override
+	protected void handleMouseClick(Slot slot, int slotId, int mouseButton, int clickType) {
+		//Shift clicking the result crafts as much as possible, ctrl clicking crafts a stack, both in one request
+		if (slot != null && slot.slotNumber == 0 && slot.getHasStack() && (clickType == 1 || isCtrlKeyDown())) {
+			ItemStack result = slot.getStack();
+			int amount = clickType == 1 ? Integer.MAX_VALUE : Math.max(1, result.getMaxStackSize()/Math.max(1, result.stackSize));
+			DartCraft2.NETWORK.sendToServer(new ClipboardButtonPressPacket(amount));
+			return;
+		}
+		super.handleMouseClick(slot, slotId, mouseButton, clickType);
+	}
+	
 	private void doItemDistribution() {
 		((ContainerClipboard)this.inventorySlots).doItemDistribution();
 		Minecraft.getMinecraft().getSoundHandler().playSound(PositionedSoundRecord.func_147674_a(new ResourceLocation("gui.button.press"), 1.0F));
-		DartCraft2.NETWORK.sendToServer(new ClipboardButtonPressPacket(Minecraft.getMinecraft().thePlayer, ClipboardButtonPressPacket.EnumButtonType.DISTRIBUTE));
+		DartCraft2.NETWORK.sendToServer(new ClipboardButtonPressPacket(ClipboardButtonPressPacket.EnumButtonType.DISTRIBUTE));
 	}
 	
 	private void doSmartAssist() {
 		((ContainerClipboard)this.inventorySlots).doSmartAssist();
 		Minecraft.getMinecraft().getSoundHandler().playSound(PositionedSoundRecord.func_147674_a(new ResourceLocation("gui.button.press"), 1.0F));
-		DartCraft2.NETWORK.sendToServer(new ClipboardButtonPressPacket(Minecraft.getMinecraft().thePlayer, ClipboardButtonPressPacket.EnumButtonType.SMART_ASSIST));
+		DartCraft2.NETWORK.sendToServer(new ClipboardButtonPressPacket(ClipboardButtonPressPacket.EnumButtonType.SMART_ASSIST));
 	}
 	
 	private void doRemoveItems() {
 		((ContainerClipboard)this.inventorySlots).doRemoveItems();
 		Minecraft.getMinecraft().getSoundHandler().playSound(PositionedSoundRecord.func_147674_a(new ResourceLocation("gui.button.press"), 1.0F));
-		DartCraft2.NETWORK.sendToServer(new ClipboardButtonPressPacket(Minecraft.getMinecraft().thePlayer, ClipboardButtonPressPacket.EnumButtonType.REMOVE));
+		DartCraft2.NETWORK.sendToServer(new ClipboardButtonPressPacket(ClipboardButtonPressPacket.EnumButtonType.REMOVE));
 	}
 }
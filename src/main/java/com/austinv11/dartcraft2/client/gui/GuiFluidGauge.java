@@ -0,0 +1,119 @@
+package com.austinv11.dartcraft2.client.gui;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.texture.TextureMap;
+import net.minecraft.util.IIcon;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.IFluidTank;
+import org.lwjgl.opengl.GL11;
+
+/**
+ * A vertical fluid gauge for guis. The fluid column is tiled from the bottom up (partial tiles are cropped rather
+ * than squished) in a single tessellator batch, which is kept in a display list until the fluid, amount or capacity
+ * changes. Call {@link #release()} when the gui closes.
+ */
+@SideOnly(Side.CLIENT)
+public class GuiFluidGauge {
+
+	private static final int TILE_SIZE = 16;
+
+	private final int x, y, width, height;
+	private int displayList = -1;
+	private Fluid lastFluid;
+	private IIcon lastIcon;
+	private int lastAmount = -1, lastCapacity = -1;
+	private float minU, minV, maxU, maxV;
+	private int color;
+
+	/**
+	 * @param x The x offset of the gauge from the gui's left edge
+	 * @param y The y offset of the gauge from the gui's top edge
+	 * @param width The width of the gauge
+	 * @param height The height of a full gauge
+	 */
+	public GuiFluidGauge(int x, int y, int width, int height) {
+		this.x = x;
+		this.y = y;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Draws the tank's contents
+	 * @param tank The tank
+	 * @param guiLeft The gui's left edge
+	 * @param guiTop The gui's top edge
+	 * @param zLevel The z level to draw at
+	 */
+	public void draw(IFluidTank tank, int guiLeft, int guiTop, float zLevel) {
+		FluidStack fluid = tank.getFluid();
+		if (fluid == null || fluid.amount <= 0 || tank.getCapacity() <= 0)
+			return;
+		IIcon icon = fluid.getFluid().getIcon(fluid);
+		if (icon == null)
+			return;
+		if (displayList == -1 || fluid.getFluid() != lastFluid || icon != lastIcon || fluid.amount != lastAmount
+				|| tank.getCapacity() != lastCapacity) {
+			lastFluid = fluid.getFluid();
+			lastAmount = fluid.amount;
+			lastCapacity = tank.getCapacity();
+			if (icon != lastIcon) {
+				lastIcon = icon;
+				minU = icon.getMinU();
+				minV = icon.getMinV();
+				maxU = icon.getMaxU();
+				maxV = icon.getMaxV();
+			}
+			color = lastFluid.getColor(fluid);
+			compile(Math.min(height, (int) ((long) height*lastAmount/lastCapacity)), zLevel);
+		}
+		Minecraft.getMinecraft().renderEngine.bindTexture(TextureMap.locationBlocksTexture);
+		GL11.glColor4f((color >> 16 & 255)/255F, (color >> 8 & 255)/255F, (color & 255)/255F, 1.0F);
+		GL11.glEnable(GL11.GL_BLEND);
+		GL11.glPushMatrix();
+		GL11.glTranslatef(guiLeft+x, guiTop+y, 0);
+		GL11.glCallList(displayList);
+		GL11.glPopMatrix();
+		GL11.glDisable(GL11.GL_BLEND);
+		GL11.glColor4f(1.0F, 1.0F, 1.0F, 1.0F);
+	}
+
+	/**
+	 * Frees the gauge's display list
+	 */
+	public void release() {
+		if (displayList != -1) {
+			GLAllocation.deleteDisplayLists(displayList);
+			displayList = -1;
+		}
+	}
+
+	private void compile(int fluidHeight, float zLevel) {
+		if (displayList == -1)
+			displayList = GLAllocation.generateDisplayLists(1);
+		GL11.glNewList(displayList, GL11.GL_COMPILE);
+		Tessellator tessellator = Tessellator.instance;
+		tessellator.startDrawingQuads();
+		for (int i = 0; i < width; i += TILE_SIZE) {
+			int tileWidth = Math.min(width-i, TILE_SIZE);
+			float u = minU+(maxU-minU)*tileWidth/TILE_SIZE;
+			for (int j = 0; j < fluidHeight; j += TILE_SIZE) {
+				int tileHeight = Math.min(fluidHeight-j, TILE_SIZE);
+				float v = maxV-(maxV-minV)*tileHeight/TILE_SIZE;
+				int bottom = height-j;
+				int top = bottom-tileHeight;
+				tessellator.addVertexWithUV(i, bottom, zLevel, minU, maxV);
+				tessellator.addVertexWithUV(i+tileWidth, bottom, zLevel, u, maxV);
+				tessellator.addVertexWithUV(i+tileWidth, top, zLevel, u, v);
+				tessellator.addVertexWithUV(i, top, zLevel, minU, v);
+			}
+		}
+		tessellator.draw();
+		GL11.glEndList();
+	}
+}
@@ -9,14 +9,10 @@ import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.PositionedSoundRecord;
 import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.gui.inventory.GuiContainer;
-import net.minecraft.client.renderer.texture.TextureManager;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.util.IIcon;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.StatCollector;
 import net.minecraft.world.World;
-import net.minecraftforge.fluids.FluidStack;
-import net.minecraftforge.fluids.IFluidTank;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ArrayList;
@@ -31,6 +27,7 @@ public class GuiInfuser extends GuiContainer {
 	private int sizeX, sizeY;
 	private ResourceLocation backgroundimage = new ResourceLocation(Reference.MOD_ID.toLowerCase() + ":" + "textures/gui/infuserGui.png");
 	private TileEntityInfuser infuser;
+	private GuiFluidGauge tankGauge = new GuiFluidGauge(12, 48, 16, 60);
 	
 	public GuiInfuser(EntityPlayer player, World world, int x, int y, int z) {
 		super(new ContainerInfuser((TileEntityInfuser) world.getTileEntity(x, y, z), player, 176, 200));
@@ -51,11 +48,7 @@ public class GuiInfuser extends GuiContainer {
 		int x = (width - sizeX) / 2;
 		int y = (height - sizeY) / 2;
 		drawTexturedModalRect(x, y, 0, 0, sizeX, sizeY);
-		if (infuser.liquidForceTank.getFluidAmount() > 0) {
-			GL11.glEnable(GL11.GL_BLEND);
-			drawFluidTank(infuser.liquidForceTank, x+12, y+48);
-			GL11.glDisable(GL11.GL_BLEND);
-		}
+		tankGauge.draw(infuser.liquidForceTank, x, y, zLevel);
 		this.mc.getTextureManager().bindTexture(backgroundimage);
 		drawTexturedModalRect(x+12, y+53, sizeX+14, sizeY+68, 16, 96);
 		
@@ -64,32 +57,10 @@ public class GuiInfuser extends GuiContainer {
 		int scaleFactor = new ScaledResolution(Minecraft.getMinecraft(), x, y).getScaleFactor();
 		if (mouseX > x+(43*scaleFactor) && mouseX < x+(52*scaleFactor)
 				&& mouseY > y+(13*scaleFactor) && mouseY < y+(26*scaleFactor)) {
-			List<String> text = new ArrayList<String>();
-			text.add(StatCollector.translateToLocal("gui.infuser.help"));
-			drawHoveringText(text, mouseX, mouseY, mc.fontRenderer);
-			GL11.glDisable(GL11.GL_LIGHTING);
-			GL11.glDisable(GL11.GL_DEPTH_TEST);
-			int j1 = x+(43*scaleFactor);
-			int k1 = y+(13*scaleFactor);
-			GL11.glColorMask(true, true, true, false);
-			this.drawGradientRect(j1, k1, j1+9, k1+9, -2130706433, -2130706433);
-			GL11.glColorMask(true, true, true, true);
-			GL11.glEnable(GL11.GL_LIGHTING);
-			GL11.glEnable(GL11.GL_DEPTH_TEST);
+			drawHotspotTooltip("gui.infuser.help", x+(43*scaleFactor), y+(13*scaleFactor), mouseX, mouseY);
 		} else if (mouseX > x+(43*scaleFactor) && mouseX < x+(52*scaleFactor)
 				&& mouseY > y+(94*scaleFactor) && mouseY < y+(107*scaleFactor)) {
-			List<String> text = new ArrayList<String>();
-			text.add(StatCollector.translateToLocal("gui.infuser.start"));
-			drawHoveringText(text, mouseX, mouseY, mc.fontRenderer);
-			GL11.glDisable(GL11.GL_LIGHTING);
-			GL11.glDisable(GL11.GL_DEPTH_TEST);
-			int j1 = x+(43*scaleFactor);
-			int k1 = y+(94*scaleFactor);
-			GL11.glColorMask(true, true, true, false);
-			this.drawGradientRect(j1, k1, j1+9, k1+9, -2130706433, -2130706433);
-			GL11.glColorMask(true, true, true, true);
-			GL11.glEnable(GL11.GL_LIGHTING);
-			GL11.glEnable(GL11.GL_DEPTH_TEST);
+			drawHotspotTooltip("gui.infuser.start", x+(43*scaleFactor), y+(94*scaleFactor), mouseX, mouseY);
 		}
 	}
 	
@@ -111,33 +82,21 @@ public class GuiInfuser extends GuiContainer {
 		}
 	}
 	
-	public void drawFluidTank(IFluidTank tank, int x, int y) {
-		FluidStack fluid = tank.getFluid();
-		TextureManager manager = Minecraft.getMinecraft().renderEngine;
-		if (fluid != null) {
-			manager.bindTexture(manager.getResourceLocation(0));
-			float amount = fluid.amount;
-			float capacity = tank.getCapacity();
-			float scale = amount / capacity;
-			int fluidTankHeight = 60;
-			int fluidAmount = (int) (scale * fluidTankHeight);
-			drawFluid(x, y + fluidTankHeight - fluidAmount, fluid.getFluid().getIcon(fluid), 16, fluidAmount);
-		}
+	@Override
+	public void onGuiClosed() {
+		super.onGuiClosed();
+		tankGauge.release();
 	}
 	
-	private void drawFluid(int x, int y, IIcon icon, int width, int height) {
-		int i = 0;
-		int j = 0;
-		
-		int drawHeight = 0;
-		int drawWidth = 0;
-		
-		for (i = 0; i < width; i += 16) {
-			for (j = 0; j < height; j += 16) {
-				drawWidth = Math.min(width - i, 16);
-				drawHeight = Math.min(height - j, 16);
-				drawTexturedModelRectFromIcon(x+i, y+j, icon, drawWidth, drawHeight);
-			}
-		}
+	private void drawHotspotTooltip(String key, int hotspotX, int hotspotY, int mouseX, int mouseY) {
+		//drawHoveringText() turns lighting and depth back on when it's done, so they're only toggled once
+		GL11.glDisable(GL11.GL_LIGHTING);
+		GL11.glDisable(GL11.GL_DEPTH_TEST);
+		GL11.glColorMask(true, true, true, false);
+		this.drawGradientRect(hotspotX, hotspotY, hotspotX+9, hotspotY+9, -2130706433, -2130706433);
+		GL11.glColorMask(true, true, true, true);
+		List<String> text = new ArrayList<String>();
+		text.add(StatCollector.translateToLocal(key));
+		drawHoveringText(text, mouseX, mouseY, mc.fontRenderer);
 	}
 }
@@ -1,8 +1,13 @@
 package com.austinv11.dartcraft2.client.model;
 
+import com.austinv11.dartcraft2.reference.Config;
 import com.austinv11.dartcraft2.reference.Reference;
 import com.austinv11.dartcraft2.tileentities.TileEntityInfuser;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.model.ModelBox;
+import net.minecraft.client.model.ModelRenderer;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.client.renderer.entity.RenderEnchantmentTable;
 import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
 import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
@@ -13,26 +18,69 @@ import org.lwjgl.opengl.GL11;
 
 public class RenderInfuser extends TileEntitySpecialRenderer {
 	
+	private static final ResourceLocation TEXTURE = new ResourceLocation(Reference.MOD_ID.toLowerCase()+":textures/blocks/Infuser.png");
+	private static final float MODEL_SCALE = 0.1F;
+	private static int displayList = -1; //Shared by the tile and item renderers
+	
 	private ModelInfuser model = new ModelInfuser();
 	private RenderEnchantmentTable renderer = (RenderEnchantmentTable) TileEntityRendererDispatcher.instance.mapSpecialRenderers.get(TileEntityEnchantmentTable.class);
 	
 	@Override
 	public void renderTileEntityAt(TileEntity tileEntity, double x, double y, double z, float f) {
+		//The item renderer passes in a tile without a world, that one is always drawn
+		boolean inWorld = tileEntity.getWorldObj() != null;
+		double distanceSq = (x+.5)*(x+.5)+(y+.5)*(y+.5)+(z+.5)*(z+.5);
+		if (inWorld && distanceSq > Config.infuserRenderDistance*Config.infuserRenderDistance)
+			return;
 		GL11.glPushMatrix();
 		GL11.glTranslatef((float) x+0.5F, (float) y+2F, (float) z+0.5F);
 		GL11.glScalef(.8F, .8F, .8F);
 		GL11.glRotatef(180F, 0, 0, 1);
 		//GL11.glRotatef(tileEntity.getBlockMetadata() * (-90), 0.0F, 0.0F, 1.0F);
-		Minecraft.getMinecraft().renderEngine.bindTexture(new ResourceLocation(Reference.MOD_ID.toLowerCase()+":textures/blocks/Infuser.png"));
-		model.render(null, 0.0F, 0.0F, 0.0F, 0.0F, 0.0F, 0.1F);
+		bindTexture(TEXTURE);
+		if (displayList == -1)
+			compileModel();
+		GL11.glCallList(displayList);
 		GL11.glPopMatrix();
-		if (((TileEntityInfuser)tileEntity).getStackInSlot(0) != null) {
+		if (((TileEntityInfuser)tileEntity).getStackInSlot(0) != null && ((TileEntityInfuser) tileEntity).dummyTable != null
+				&& (!inWorld || distanceSq <= Config.infuserBookRenderDistance*Config.infuserBookRenderDistance)) {
 			GL11.glPushMatrix();
 			GL11.glTranslatef(0, -.25F, 0);
-			if (((TileEntityInfuser) tileEntity).dummyTable != null) {
-				renderer.renderTileEntityAt(((TileEntityInfuser) tileEntity).dummyTable, x, y, z, f);
-			}
+			renderer.renderTileEntityAt(((TileEntityInfuser) tileEntity).dummyTable, x, y, z, f);
+			GL11.glPopMatrix();
+		}
+	}
+	
+	@Override
+	protected void bindTexture(ResourceLocation location) {
+		//The item renderer calls this before the renderer has been given a dispatcher
+		Minecraft.getMinecraft().renderEngine.bindTexture(location);
+	}
+	
+	/**
+	 * Bakes every box of the (static) infuser model into a single display list
+	 */
+	private void compileModel() {
+		displayList = GLAllocation.generateDisplayLists(1);
+		GL11.glNewList(displayList, GL11.GL_COMPILE);
+		Tessellator tessellator = Tessellator.instance;
+		for (Object o : model.boxList) {
+			ModelRenderer part = (ModelRenderer) o;
+			if (part.isHidden || !part.showModel)
+				continue;
+			GL11.glPushMatrix();
+			GL11.glTranslatef(part.offsetX, part.offsetY, part.offsetZ);
+			GL11.glTranslatef(part.rotationPointX*MODEL_SCALE, part.rotationPointY*MODEL_SCALE, part.rotationPointZ*MODEL_SCALE);
+			if (part.rotateAngleZ != 0)
+				GL11.glRotatef(part.rotateAngleZ*(180F/(float) Math.PI), 0, 0, 1);
+			if (part.rotateAngleY != 0)
+				GL11.glRotatef(part.rotateAngleY*(180F/(float) Math.PI), 0, 1, 0);
+			if (part.rotateAngleX != 0)
+				GL11.glRotatef(part.rotateAngleX*(180F/(float) Math.PI), 1, 0, 0);
+			for (Object box : part.cubeList)
+				((ModelBox) box).render(tessellator, MODEL_SCALE);
 			GL11.glPopMatrix();
 		}
+		GL11.glEndList();
 	}
 }
@@ -0,0 +1,59 @@
+package com.austinv11.dartcraft2.commands;
+
+import com.austinv11.dartcraft2.profiling.TickProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.util.ChatComponentTranslation;
+
+import java.util.List;
+
+/**
+ * The /dc2 command, currently only used to control the {@link TickProfiler}
+ */
+public class CommandDartCraft2 extends CommandBase {
+	
+	private static final int TOP_POSITIONS = 10;
+	
+	@Override
+	public String getCommandName() {
+		return "dc2";
+	}
+	
+	@Override
+	public String getCommandUsage(ICommandSender sender) {
+		return "commands.dc2.usage";
+	}
+	
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+	
+	@Override
+	public void processCommand(ICommandSender sender, String[] args) {
+		if (args.length != 2 || !args[0].equals("profile"))
+			throw new WrongUsageException(getCommandUsage(sender));
+		if (args[1].equals("start")) {
+			TickProfiler.enable();
+			sender.addChatMessage(new ChatComponentTranslation("commands.dc2.profile.started"));
+		} else if (args[1].equals("stop")) {
+			TickProfiler.disable();
+			sender.addChatMessage(new ChatComponentTranslation("commands.dc2.profile.stopped"));
+		} else if (args[1].equals("dump")) {
+			for (String line : TickProfiler.dump(TOP_POSITIONS))
+				sender.addChatMessage(new ChatComponentText(line));
+		} else
+			throw new WrongUsageException(getCommandUsage(sender));
+	}
+	
+	@Override
+	public List addTabCompletionOptions(ICommandSender sender, String[] args) {
+		if (args.length == 1)
+			return getListOfStringsMatchingLastWord(args, "profile");
+		if (args.length == 2 && args[0].equals("profile"))
+			return getListOfStringsMatchingLastWord(args, "start", "stop", "dump");
+		return null;
+	}
+}
@@ -1,34 +1,45 @@
 package com.austinv11.dartcraft2.container;
 
-import com.austinv11.collectiveframework.minecraft.utils.NBTHelper;
-import com.austinv11.collectiveframework.utils.ArrayUtils;
+import com.austinv11.dartcraft2.api.ITransmutationItem;
+import com.austinv11.dartcraft2.inventory.GridOperations;
+import com.austinv11.dartcraft2.inventory.ItemInventory;
+import com.austinv11.dartcraft2.inventory.ItemStackKey;
 import com.austinv11.dartcraft2.items.ItemClipboard;
+import com.austinv11.dartcraft2.recipes.RecipeTransmutation;
+import cpw.mods.fml.common.FMLCommonHandler;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.ContainerWorkbench;
 import net.minecraft.inventory.IInventory;
-import net.minecraft.inventory.InventoryCrafting;
-import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.item.crafting.CraftingManager;
+import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.world.World;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ContainerClipboard extends ContainerWorkbench {
 	
+	private static final int FLUSH_INTERVAL = 20; //Ticks between writes of the grid to the clipboard item
+	
 	public EntityPlayer player;
 	public boolean isClosed = true;
+	private ItemInventory storage;
+	private boolean needsFlush = false;
+	private int ticksSinceFlush = 0;
+	private GridOperations gridOperations;
 	
 	public ContainerClipboard(EntityPlayer player) {
 		this(player.inventory, player.getEntityWorld(), (int)player.posX, (int)player.posY, (int)player.posZ);
 		this.player = player;
-		ItemStack clipboard = player.getHeldItem();
-		for (int i = 0; i < 9; i++)
-			if (NBTHelper.hasTag(clipboard, "slot"+i))
-				craftMatrix.setInventorySlotContents(i, ItemStack.loadItemStackFromNBT(NBTHelper.getCompoundTag(clipboard, "slot"+i)));
+		storage = new ItemInventory(craftMatrix.getInventoryName(), craftMatrix.getSizeInventory(), player.getHeldItem());
+		for (int i = 0; i < storage.getSizeInventory(); i++)
+			if (storage.getStackInSlot(i) != null)
+				craftMatrix.setInventorySlotContents(i, storage.getStackInSlot(i).copy());
+		gridOperations = new GridOperations(craftMatrix, 3, 3);
 		isClosed = false;
 	}
 	
@@ -38,18 +49,41 @@ public class ContainerClipboard extends ContainerWorkbench {
 	
 	@Override
 	public void onCraftMatrixChanged(IInventory inventory) {
-		if (player != null && player.getHeldItem() != null && !isClosed) {
-			player.getHeldItem().stackTagCompound = null;
+		if (storage != null && !isClosed) {
+			//Only the slots which differ from the stored grid are touched, the item itself is written on the next flush
 			for (int i = 0; i < inventory.getSizeInventory(); i++)
-				if (inventory.getStackInSlot(i) != null) {
-					NBTHelper.setCompoundTag(player.getHeldItem(), "slot"+i, inventory.getStackInSlot(i).writeToNBT(new NBTTagCompound()));
+				if (!ItemStack.areItemStacksEqual(inventory.getStackInSlot(i), storage.getStackInSlot(i))) {
+					storage.setInventorySlotContents(i, ItemStack.copyItemStack(inventory.getStackInSlot(i)));
+					needsFlush = true;
 				}
 		}
 		super.onCraftMatrixChanged(inventory);
 	}
 	
+	@Override
+	public void detectAndSendChanges() {
+		super.detectAndSendChanges();
+		if (needsFlush && ++ticksSinceFlush >= FLUSH_INTERVAL)
+			flush();
+	}
+	
+	/**
+	 * Writes any changed grid slots to the held clipboard, leaving the rest of its NBT alone
+	 */
+	public void flush() {
+		ticksSinceFlush = 0;
+		if (storage == null || player == null || player.worldObj.isRemote) //The server's copy is synced to the client
+			return;
+		ItemStack held = player.getHeldItem();
+		if (held != null && held.getItem() instanceof ItemClipboard) {
+			storage.writeToItem(held);
+			needsFlush = false;
+		}
+	}
+	
 	@Override
 	public void onContainerClosed(EntityPlayer player) {
+		flush();
 		isClosed = true;
 		for (int i = 0; i < craftMatrix.getSizeInventory(); i++)
 			craftMatrix.setInventorySlotContents(i, null);
@@ -65,90 +99,130 @@ public class ContainerClipboard extends ContainerWorkbench {
 	}
 	
 	public void doItemDistribution() {
-		HashMap<Item, List<Integer>> items = new HashMap<Item, List<Integer>>();
-		HashMap<Item, Integer> itemCount = new HashMap<Item, Integer>();
-		for (int i = 0; i < craftMatrix.getSizeInventory(); i++)
-			if (craftMatrix.getStackInSlot(i) != null) {
-				if (!items.containsKey(craftMatrix.getStackInSlot(i).getItem())) {
-					items.put(craftMatrix.getStackInSlot(i).getItem(), new ArrayList<Integer>());
-					itemCount.put(craftMatrix.getStackInSlot(i).getItem(), 0);
-				}
-				items.get(craftMatrix.getStackInSlot(i).getItem()).add(i);
-				itemCount.put(craftMatrix.getStackInSlot(i).getItem(), itemCount.get(craftMatrix.getStackInSlot(i).getItem())+craftMatrix.getStackInSlot(i).stackSize);
-				craftMatrix.getStackInSlot(i).stackSize = 0;
-			}
-		for (Item item : itemCount.keySet()) {
-			int left = itemCount.get(item);
-			whileLoop: while (left > 0)
-				for (Integer slot : items.get(item)) {
-					ItemStack stack = craftMatrix.getStackInSlot(slot);
-					stack.stackSize++;
-					craftMatrix.setInventorySlotContents(slot, stack);
-					left--;
-					if (left == 0)
-						break whileLoop;
-				}
-		}
+		gridOperations.distribute();
 	}
 	
 	public void doSmartAssist() {
-		List<Item> itemTypes = new ArrayList<Item>();
-		boolean rotate = true;
-		int amount = 0;
-		int slot = 0;
-		for (int i = 0; i < craftMatrix.getSizeInventory(); i++)
-			if (craftMatrix.getStackInSlot(i) != null) {
-				if (!itemTypes.contains(craftMatrix.getStackInSlot(i).getItem()))
-					itemTypes.add(craftMatrix.getStackInSlot(i).getItem());
-				amount += craftMatrix.getStackInSlot(i).stackSize;
-				slot = i;
-			} else if (i != 4)
-				rotate = false;
+		gridOperations.smartAssist();
+	}
+	
+	public void doRemoveItems() {
+		for (int i = 0; i < craftMatrix.getSizeInventory(); i++) {
+			boolean didMove = player.inventory.addItemStackToInventory(craftMatrix.getStackInSlot(i));
+			if (didMove)
+				craftMatrix.setInventorySlotContents(i, null);
+		}
+	}
+	
+	/**
+	 * Crafts the recipe currently laid out in the grid several times, taking the ingredients from the player's
+	 * inventory (the grid itself is left alone). This should only be called server side.
+	 * @param amount The maximum number of times to craft the recipe
+	 * @return The number of times the recipe was crafted
+	 */
+	public int doBatchCraft(int amount) {
+		if (amount <= 0 || player == null || player.worldObj.isRemote)
+			return 0;
 		
-		if (rotate || itemTypes.size() != 1 || amount < 8) {
-			ItemStack[] stacks = inventoryToArray(craftMatrix); //ugh, hard coding
-			craftMatrix.setInventorySlotContents(0, ArrayUtils.wrappedRetrieve(stacks, 1));
-			craftMatrix.setInventorySlotContents(1, ArrayUtils.wrappedRetrieve(stacks, 2));
-			craftMatrix.setInventorySlotContents(2, ArrayUtils.wrappedRetrieve(stacks, 4));
-			craftMatrix.setInventorySlotContents(3, ArrayUtils.wrappedRetrieve(stacks, 0));
-			craftMatrix.setInventorySlotContents(5, ArrayUtils.wrappedRetrieve(stacks, 7));
-			craftMatrix.setInventorySlotContents(6, ArrayUtils.wrappedRetrieve(stacks, 3));
-			craftMatrix.setInventorySlotContents(7, ArrayUtils.wrappedRetrieve(stacks, 5));
-			craftMatrix.setInventorySlotContents(8, ArrayUtils.wrappedRetrieve(stacks, 6));
-		} else {
-			if (!itemTypes.isEmpty() && itemTypes.size() == 1) {
-				ItemStack ghost = craftMatrix.getStackInSlot(slot).copy();
-				ghost.stackSize = 1;
-				for (int i = 0; i < (amount > 9 ? 9 : amount); i++)
-					if (i != 4) {
-						craftMatrix.setInventorySlotContents(i, ghost.copy());
-					}
-				if (amount > 8) {
-					ghost.stackSize = amount-7;
-					craftMatrix.setInventorySlotContents(0, ghost);
-					doItemDistribution();
-				}
+		//Each distinct ingredient and the number needed per craft, transmutations are never batched
+		HashMap<ItemStackKey, int[]> required = new HashMap<ItemStackKey, int[]>();
+		for (int i = 0; i < craftMatrix.getSizeInventory(); i++) {
+			ItemStack stack = craftMatrix.getStackInSlot(i);
+			if (stack == null)
+				continue;
+			if (stack.getItem() instanceof ITransmutationItem)
+				return 0;
+			ItemStackKey key = new ItemStackKey(stack);
+			int[] count = required.get(key);
+			if (count == null)
+				required.put(key, new int[]{1});
+			else
+				count[0]++;
+		}
+		if (required.isEmpty())
+			return 0;
+		
+		IRecipe recipe = findRecipe();
+		if (recipe == null || recipe instanceof RecipeTransmutation)
+			return 0;
+		ItemStack result = recipe.getCraftingResult(craftMatrix);
+		if (result == null)
+			return 0;
+		
+		//One pass over the player's inventory to find (and total up) every matching ingredient stack
+		ItemStack[] inventory = player.inventory.mainInventory;
+		HashMap<ItemStackKey, List<Integer>> sources = new HashMap<ItemStackKey, List<Integer>>();
+		HashMap<ItemStackKey, int[]> available = new HashMap<ItemStackKey, int[]>();
+		for (int i = 0; i < inventory.length; i++) {
+			if (inventory[i] == null)
+				continue;
+			ItemStackKey key = new ItemStackKey(inventory[i]);
+			if (!required.containsKey(key))
+				continue;
+			if (!sources.containsKey(key)) {
+				sources.put(key, new ArrayList<Integer>());
+				available.put(key, new int[1]);
+			}
+			sources.get(key).add(i);
+			available.get(key)[0] += inventory[i].stackSize;
+		}
+		int crafts = amount;
+		for (Map.Entry<ItemStackKey, int[]> entry : required.entrySet()) {
+			int[] count = available.get(entry.getKey());
+			crafts = Math.min(crafts, count == null ? 0 : count[0]/entry.getValue()[0]);
+		}
+		if (crafts == 0)
+			return 0;
+		
+		for (Map.Entry<ItemStackKey, int[]> entry : required.entrySet()) {
+			int left = entry.getValue()[0]*crafts;
+			for (int slot : sources.get(entry.getKey())) {
+				int taken = Math.min(left, inventory[slot].stackSize);
+				inventory[slot].stackSize -= taken;
+				if (inventory[slot].stackSize == 0)
+					inventory[slot] = null;
+				left -= taken;
+				if (left == 0)
+					break;
+			}
+			ItemStack ingredient = entry.getKey().getStack();
+			if (ingredient.getItem().hasContainerItem(ingredient)) {
+				ItemStack container = ingredient.getItem().getContainerItem(ingredient);
+				if (container != null && !(container.isItemStackDamageable() && container.getItemDamage() > container.getMaxDamage()))
+					giveItems(container, container.stackSize*entry.getValue()[0]*crafts);
 			}
 		}
+		
+		ItemStack crafted = result.copy();
+		crafted.stackSize = result.stackSize*crafts;
+		crafted.onCrafting(player.worldObj, player, crafted.stackSize);
+		FMLCommonHandler.instance().firePlayerCraftingEvent(player, crafted, craftMatrix);
+		giveItems(result, crafted.stackSize);
+		detectAndSendChanges();
+		return crafts;
 	}
 	
-	private ItemStack[] inventoryToArray(InventoryCrafting inventoryCrafting) {
-		ItemStack[] stacks = new ItemStack[8];
-		for (int i = 0; i < inventoryCrafting.getSizeInventory(); i++) {
-			if (i < 4) {
-				stacks[i] = inventoryCrafting.getStackInSlot(i);
-			} else if (i > 4) {
-				stacks[i-1] = inventoryCrafting.getStackInSlot(i); 
-			}
+	private IRecipe findRecipe() {
+		for (Object o : CraftingManager.getInstance().getRecipeList()) {
+			IRecipe recipe = (IRecipe) o;
+			if (recipe.matches(craftMatrix, player.worldObj))
+				return recipe;
 		}
-		return stacks;
+		return null;
 	}
 	
-	public void doRemoveItems() {
-		for (int i = 0; i < craftMatrix.getSizeInventory(); i++) {
-			boolean didMove = player.inventory.addItemStackToInventory(craftMatrix.getStackInSlot(i));
-			if (didMove)
-				craftMatrix.setInventorySlotContents(i, null);
+	/**
+	 * Gives the player the given amount of an item in full stacks, dropping whatever doesn't fit
+	 */
+	private void giveItems(ItemStack template, int amount) {
+		int maxSize = Math.max(1, template.getMaxStackSize());
+		while (amount > 0) {
+			ItemStack stack = template.copy();
+			stack.stackSize = Math.min(amount, maxSize);
+			amount -= stack.stackSize;
+			player.inventory.addItemStackToInventory(stack);
+			if (stack.stackSize > 0)
+				player.dropPlayerItemWithRandomChoice(stack, false);
 		}
 	}
 }
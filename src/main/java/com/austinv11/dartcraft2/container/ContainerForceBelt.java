@@ -1,10 +1,10 @@
 package com.austinv11.dartcraft2.container;
 
+import com.austinv11.dartcraft2.inventory.ItemInventory;
 import com.austinv11.dartcraft2.inventory.SlotDCOnly;
 import com.austinv11.dartcraft2.utils.DartCraftUtils;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.Container;
-import net.minecraft.inventory.InventoryBasic;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.StatCollector;
@@ -12,14 +12,14 @@ import net.minecraft.util.StatCollector;
 public class ContainerForceBelt extends Container {
     private EntityPlayer player;
     private ItemStack forceBelt;
-    private InventoryBasic inv = new InventoryBasic(StatCollector.translateToLocal("gui.forceBelt.name"), false, 9);
+    private ItemInventory inv;
     private Slot[] slots = new Slot[8];
 
     public ContainerForceBelt(EntityPlayer player, int xSize, int ySize) {
         this.player = player;
-        layout(xSize, ySize);
         this.forceBelt = DartCraftUtils.getCorrectForceBelt(player);
-        DartCraftUtils.readItemInventoryFromNBT(inv, forceBelt);
+        this.inv = new ItemInventory(StatCollector.translateToLocal("gui.forceBelt.name"), 9, forceBelt);
+        layout(xSize, ySize);
     }
 
     protected void layout(int xSize, int ySize) {
@@ -47,7 +47,7 @@ public class ContainerForceBelt extends Container {
     @Override
     public void onContainerClosed(EntityPlayer player) {
         forceBelt = DartCraftUtils.getCorrectForceBelt(player);
-        DartCraftUtils.writeItemInventoryToNBT(inv, forceBelt);
+        inv.writeToItem(forceBelt);
         super.onContainerClosed(player);
     }
 
@@ -1,9 +1,8 @@
 package com.austinv11.dartcraft2.container;
 
-import com.austinv11.dartcraft2.utils.DartCraftUtils;
+import com.austinv11.dartcraft2.inventory.ItemInventory;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.Container;
-import net.minecraft.inventory.InventoryBasic;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.StatCollector;
@@ -11,20 +10,18 @@ import net.minecraft.util.StatCollector;
 public class ContainerForcePack extends Container {
 
     private EntityPlayer player;
-    private InventoryBasic inv;
+    private ItemInventory inv;
     private Slot slots[];
     private int numRows;
     private int numCols;
 
     public ContainerForcePack(EntityPlayer player, int xSize, int ySize) {
         this.player = player;
-        this.inv = new InventoryBasic(StatCollector.translateToLocal("gui.forcePack.name"), false, getInventorySize(player.getHeldItem().getItemDamage()));
+        this.inv = new ItemInventory(StatCollector.translateToLocal("gui.forcePack.name"), getInventorySize(player.getHeldItem().getItemDamage()), player.getHeldItem());
         this.slots = new Slot[9 + (player.getHeldItem().getItemDamage() * 9)];
         this.numRows = 1 + player.getHeldItem().getItemDamage();
         this.numCols = 9;
         layout(xSize, ySize);
-
-        DartCraftUtils.readItemInventoryFromNBT(inv, player.getHeldItem());
     }
 
     protected void layout(int xSize, int ySize) {
@@ -49,7 +46,7 @@ public class ContainerForcePack extends Container {
 
     @Override
     public void onContainerClosed(EntityPlayer player) {
-        DartCraftUtils.writeItemInventoryToNBT(inv, player.getHeldItem());
+        inv.writeToItem(player.getHeldItem());
         super.onContainerClosed(player);
     }
 
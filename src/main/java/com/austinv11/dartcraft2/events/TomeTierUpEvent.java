@@ -0,0 +1,23 @@
+package com.austinv11.dartcraft2.events;
+
+import cpw.mods.fml.common.eventhandler.Event;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Fired on {@link net.minecraftforge.common.MinecraftForge#EVENT_BUS} after an upgrade tome gains one or more tiers
+ */
+public class TomeTierUpEvent extends Event {
+	
+	/**
+	 * The tome, its NBT already holds the new tier
+	 */
+	public final ItemStack tome;
+	public final int oldTier;
+	public final int newTier;
+	
+	public TomeTierUpEvent(ItemStack tome, int oldTier, int newTier) {
+		this.tome = tome;
+		this.oldTier = oldTier;
+		this.newTier = newTier;
+	}
+}
@@ -0,0 +1,15 @@
+package com.austinv11.dartcraft2.events.handlers;
+
+import com.austinv11.dartcraft2.reference.Reference;
+import com.austinv11.dartcraft2.utils.TomeProgression;
+import cpw.mods.fml.client.event.ConfigChangedEvent;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+public class ConfigHandler {
+	
+	@SubscribeEvent
+	public void onConfigChanged(ConfigChangedEvent.OnConfigChangedEvent event) {
+		if (event.modID.equals(Reference.MOD_ID))
+			TomeProgression.compile();
+	}
+}
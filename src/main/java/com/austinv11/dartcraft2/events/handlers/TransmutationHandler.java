@@ -2,14 +2,15 @@ package com.austinv11.dartcraft2.events.handlers;
 
 import com.austinv11.dartcraft2.DartCraft2;
 import com.austinv11.dartcraft2.api.ITransmutationItem;
+import com.austinv11.dartcraft2.metrics.Metrics;
 import com.austinv11.dartcraft2.network.DartCraftEffectPacket;
 import com.austinv11.dartcraft2.network.TransmutePacket;
+import com.austinv11.dartcraft2.profiling.CallWatchdog;
+import com.austinv11.dartcraft2.utils.TargetingUtils;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.PlayerEvent;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.AxisAlignedBB;
-import net.minecraft.util.MathHelper;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 
 public class TransmutationHandler {
@@ -20,29 +21,17 @@ public class TransmutationHandler {
 			if (!event.isCanceled())
 				if (event.entityPlayer.getCurrentEquippedItem() != null)
 					if (event.entityPlayer.getCurrentEquippedItem().getItem() instanceof ITransmutationItem) {
-						double posX = event.entityPlayer.posX;
-						double posY = event.entityPlayer.posY + event.entityPlayer.getEyeHeight();
-						double posZ = event.entityPlayer.posZ;
-						double xIncr = -MathHelper.sin(event.entityPlayer.rotationYaw/180.0F*3.141593F) *
-								MathHelper.cos(event.entityPlayer.rotationPitch/180.0F*3.141593F);
-						double yIncr = -MathHelper.sin(event.entityPlayer.rotationPitch/180.0F*3.141593F);
-						double zIncr = MathHelper.cos(event.entityPlayer.rotationYaw/180.0F*3.141593F) *
-								MathHelper.cos(event.entityPlayer.rotationPitch/180.0F*3.141593F);
-						for (int i = 0; i < 17; i++) {
-							AxisAlignedBB boundingBox = AxisAlignedBB.getBoundingBox(posX-.5, posY-.5, posZ-.5, 
-									posX+.5, posY+.5, posZ+.5);
-							EntityItem entityItem = (EntityItem) event.world.findNearestEntityWithinAABB(EntityItem.class, boundingBox, event.entityPlayer);
-							if (entityItem != null) {
-								DartCraft2.NETWORK.sendToServer(new TransmutePacket(entityItem, event.entityPlayer));
-								event.setCanceled(true);
-								return;
-							}
-							posX += xIncr;
-							posY += yIncr;
-							posZ += zIncr;
+						//Picks the nearest dropped item within half a block of the player's look
+						EntityItem entityItem = TargetingUtils.findEntityAlongRay(event.world, EntityItem.class, 
+								TargetingUtils.getEyePosition(event.entityPlayer), TargetingUtils.getLookVector(event.entityPlayer), 
+								TransmutePacket.ENTITY_RANGE-1, .5, event.entityPlayer);
+						if (entityItem != null) {
+							DartCraft2.NETWORK.sendToServer(new TransmutePacket(entityItem));
+							event.setCanceled(true);
+							return;
 						}
 						if (event.action == PlayerInteractEvent.Action.RIGHT_CLICK_BLOCK) {
-							DartCraft2.NETWORK.sendToServer(new TransmutePacket(event.world, event.x, event.y, event.z, event.entityPlayer));
+							DartCraft2.NETWORK.sendToServer(new TransmutePacket(event.x, event.y, event.z));
 							event.setCanceled(true);
 						}
 					}
@@ -65,11 +54,18 @@ public class TransmutationHandler {
 						toTransmute = event.craftMatrix.getStackInSlot(i);
 					}
 			if (rod != null && toTransmute != null && transmuted != null) {
-				((ITransmutationItem)rod.getItem()).transmute(rod, toTransmute.getItem(), toTransmute.getItemDamage(), 
-						transmuted.getItem(), transmuted.getItemDamage());
+				if (!CallWatchdog.isSuspended(rod.getItem())) { //The rod is still handed back if it was suspended since the grid matched
+					long call = CallWatchdog.begin(rod.getItem(), event.player.worldObj, (int) event.player.posX, (int) event.player.posY, 
+							(int) event.player.posZ);
+					((ITransmutationItem)rod.getItem()).transmute(rod, toTransmute.getItem(), toTransmute.getItemDamage(), 
+							transmuted.getItem(), transmuted.getItemDamage());
+					CallWatchdog.end(call);
+				}
 				event.player.inventory.addItemStackToInventory(rod);
-				if (!event.player.getEntityWorld().isRemote)
+				if (!event.player.getEntityWorld().isRemote) {
+					Metrics.TRANSMUTATIONS.increment();
 					DartCraft2.NETWORK.sendToAll(new DartCraftEffectPacket(event.player.getEntityWorld(), (int) event.player.posX, (int) event.player.posY, (int) event.player.posZ));
+				}
 			}
 		}
 	}
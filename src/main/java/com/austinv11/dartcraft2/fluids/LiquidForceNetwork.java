@@ -0,0 +1,205 @@
+package com.austinv11.dartcraft2.fluids;
+
+import com.austinv11.dartcraft2.init.ModFluids;
+import com.austinv11.dartcraft2.reference.Config;
+import com.austinv11.dartcraft2.tileentities.TileEntityForcePipe;
+import com.austinv11.dartcraft2.tileentities.TileEntityForceTank;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.IFluidHandler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * A connected group of force pipes sharing a single liquid force buffer. Pipes only point at their network, so moving
+ * fluid through it costs the same however long the pipes are. The graph itself is only walked again by the
+ * {@link LiquidForceNetworkManager} when pipes are added or removed, and the blocks around the pipes are only looked
+ * at again when a neighbour changes or one of the chunks they are in loads.
+ */
+public class LiquidForceNetwork {
+
+	private final World world;
+	private final LinkedHashSet<TileEntityForcePipe> pipes = new LinkedHashSet<TileEntityForcePipe>();
+	private final List<Acceptor> acceptors = new ArrayList<Acceptor>();
+	private final HashSet<Long> chunks = new HashSet<Long>(); //Every chunk holding a pipe or a block next to one
+	private TileEntityForcePipe first; //Holds the remainder when the buffer is split between the pipes
+	private int amount = 0;
+	private boolean dirty = false;
+	private boolean acceptorsDirty = true;
+
+	LiquidForceNetwork(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Gets the amount of liquid force a pipe is holding as its part of the buffer, this is what it saves
+	 * @param pipe The pipe
+	 * @return The amount in mB
+	 */
+	public int getShare(TileEntityForcePipe pipe) {
+		if (pipes.isEmpty())
+			return 0;
+		return amount/pipes.size()+(pipe == first ? amount % pipes.size() : 0);
+	}
+
+	/**
+	 * @return The amount of liquid force in the buffer in mB
+	 */
+	public int getAmount() {
+		return amount;
+	}
+
+	/**
+	 * @return The size of the buffer in mB
+	 */
+	public int getCapacity() {
+		return pipes.size()*Config.forcePipeCapacity;
+	}
+
+	/**
+	 * Fills the buffer
+	 * @param maxFill The amount offered
+	 * @param doFill Whether to actually fill the buffer
+	 * @return The amount accepted
+	 */
+	public int fill(int maxFill, boolean doFill) {
+		int filled = Math.max(0, Math.min(maxFill, getCapacity()-amount));
+		if (doFill)
+			amount += filled;
+		return filled;
+	}
+
+	/**
+	 * Drains the buffer
+	 * @param maxDrain The amount wanted
+	 * @param doDrain Whether to actually drain the buffer
+	 * @return The amount drained
+	 */
+	public int drain(int maxDrain, boolean doDrain) {
+		int drained = Math.max(0, Math.min(maxDrain, amount));
+		if (doDrain)
+			amount -= drained;
+		return drained;
+	}
+
+	/**
+	 * Makes the network look for blocks to fill again on its next tick
+	 */
+	public void markAcceptorsDirty() {
+		acceptorsDirty = true;
+	}
+
+	boolean isDirty() {
+		return dirty;
+	}
+
+	/**
+	 * Checks whether any pipe in this network, or a block next to one, is in a chunk
+	 * @param chunkKey The chunk's {@link ChunkCoordIntPair#chunkXZ2Int(int, int)} key
+	 */
+	boolean touchesChunk(long chunkKey) {
+		return chunks.contains(chunkKey);
+	}
+
+	void add(TileEntityForcePipe pipe) {
+		if (first == null)
+			first = pipe;
+		pipes.add(pipe);
+		amount += pipe.storedAmount;
+		pipe.storedAmount = 0;
+		pipe.network = this;
+		acceptorsDirty = true;
+		//Neighbours across a chunk border can load after the pipe does
+		for (int dx = -1; dx <= 1; dx++)
+			for (int dz = -1; dz <= 1; dz++)
+				chunks.add(ChunkCoordIntPair.chunkXZ2Int((pipe.xCoord+dx) >> 4, (pipe.zCoord+dz) >> 4));
+	}
+
+	/**
+	 * Takes a pipe which is going away out of the network, along with its share of the buffer
+	 */
+	void remove(TileEntityForcePipe pipe) {
+		amount -= getShare(pipe);
+		pipes.remove(pipe);
+		pipe.network = null;
+		if (pipe == first)
+			first = pipes.isEmpty() ? null : pipes.iterator().next();
+		dirty = true; //The remaining pipes may not be connected anymore
+	}
+
+	/**
+	 * Hands every pipe its share of the buffer and leaves them waiting to be built into new networks
+	 */
+	void dissolve(Collection<TileEntityForcePipe> pending) {
+		for (TileEntityForcePipe pipe : pipes) {
+			pipe.storedAmount += getShare(pipe);
+			pipe.network = null;
+			pending.add(pipe);
+		}
+		pipes.clear();
+		acceptors.clear();
+		chunks.clear();
+		first = null;
+		amount = 0;
+	}
+
+	/**
+	 * Splits the buffer evenly between everything connected which accepts liquid force
+	 */
+	void tick() {
+		if (amount <= 0)
+			return;
+		if (acceptorsDirty)
+			refreshAcceptors();
+		for (int i = 0; i < acceptors.size() && amount > 0; i++) {
+			Acceptor acceptor = acceptors.get(i);
+			if (acceptor.tile.isInvalid() || !world.blockExists(acceptor.tile.xCoord, acceptor.tile.yCoord, acceptor.tile.zCoord)) {
+				acceptorsDirty = true;
+				continue;
+			}
+			int remaining = acceptors.size()-i;
+			int offer = Math.min(Config.liquidForceTransferRate, (amount+remaining-1)/remaining);
+			amount -= acceptor.handler.fill(acceptor.side, new FluidStack(ModFluids.liquidForce, offer), true);
+		}
+	}
+
+	private void refreshAcceptors() {
+		acceptors.clear();
+		acceptorsDirty = false;
+		IdentityHashMap<TileEntity, Boolean> seen = new IdentityHashMap<TileEntity, Boolean>();
+		for (TileEntityForcePipe pipe : pipes) {
+			for (ForgeDirection direction : ForgeDirection.VALID_DIRECTIONS) {
+				int x = pipe.xCoord+direction.offsetX, y = pipe.yCoord+direction.offsetY, z = pipe.zCoord+direction.offsetZ;
+				if (!world.blockExists(x, y, z))
+					continue;
+				TileEntity tile = world.getTileEntity(x, y, z);
+				//Tanks sitting on a pipe drain into it, so they aren't filled back up
+				if (!(tile instanceof IFluidHandler) || tile instanceof TileEntityForcePipe
+						|| (direction == ForgeDirection.UP && tile instanceof TileEntityForceTank) || seen.put(tile, true) != null)
+					continue;
+				acceptors.add(new Acceptor(tile, direction.getOpposite()));
+			}
+		}
+	}
+
+	private static class Acceptor {
+
+		private final TileEntity tile;
+		private final IFluidHandler handler;
+		private final ForgeDirection side;
+
+		private Acceptor(TileEntity tile, ForgeDirection side) {
+			this.tile = tile;
+			this.handler = (IFluidHandler) tile;
+			this.side = side;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.austinv11.dartcraft2.fluids;
+
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
+import com.austinv11.dartcraft2.tileentities.TileEntityForcePipe;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of the liquid force networks in each world. Pipes report when they are added or removed and the
+ * affected networks are rebuilt at the end of the world's tick, after which every network moves its fluid once.
+ * This only runs on the server thread.
+ */
+public class LiquidForceNetworkManager {
+
+	public static final LiquidForceNetworkManager INSTANCE = new LiquidForceNetworkManager();
+
+	private final WeakHashMap<World, WorldNetworks> worlds = new WeakHashMap<World, WorldNetworks>();
+
+	private LiquidForceNetworkManager() {}
+
+	/**
+	 * Called when a pipe is placed or loaded, it joins a network on the next tick
+	 * @param pipe The pipe
+	 */
+	public void onPipeAdded(TileEntityForcePipe pipe) {
+		WorldNetworks networks = worlds.get(pipe.getWorldObj());
+		if (networks == null) {
+			networks = new WorldNetworks(pipe.getWorldObj());
+			worlds.put(pipe.getWorldObj(), networks);
+		}
+		networks.pending.add(pipe);
+	}
+
+	/**
+	 * Called when a pipe is broken or unloaded
+	 * @param pipe The pipe
+	 */
+	public void onPipeRemoved(TileEntityForcePipe pipe) {
+		if (pipe.network != null)
+			pipe.network.remove(pipe);
+		WorldNetworks networks = worlds.get(pipe.getWorldObj());
+		if (networks != null)
+			networks.pending.remove(pipe);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event) {
+		if (event.phase != TickEvent.Phase.END || event.side != Side.SERVER)
+			return;
+		WorldNetworks networks = worlds.get(event.world);
+		if (networks != null) {
+			long start = TickProfiler.start();
+			networks.tick();
+			TickProfiler.stop(Subsystem.LIQUID_FORCE_NETWORK, start);
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event) {
+		//Blocks loading in with their chunk don't cause a block update, so networks next to them look around again
+		markChunkChanged(event);
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		//Tile entities unloading with their chunk aren't invalidated, so they'd keep being filled without ever being saved
+		markChunkChanged(event);
+	}
+
+	private void markChunkChanged(ChunkEvent event) {
+		if (event.world.isRemote)
+			return;
+		WorldNetworks networks = worlds.get(event.world);
+		if (networks == null)
+			return;
+		long key = ChunkCoordIntPair.chunkXZ2Int(event.getChunk().xPosition, event.getChunk().zPosition);
+		for (LiquidForceNetwork network : networks.networks)
+			if (network.touchesChunk(key))
+				network.markAcceptorsDirty();
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.world);
+	}
+
+	private static class WorldNetworks {
+
+		private final World world;
+		private final LinkedHashSet<LiquidForceNetwork> networks = new LinkedHashSet<LiquidForceNetwork>();
+		private final LinkedHashSet<TileEntityForcePipe> pending = new LinkedHashSet<TileEntityForcePipe>();
+
+		private WorldNetworks(World world) {
+			this.world = world;
+		}
+
+		private void tick() {
+			//Networks which lost a pipe may have been split, so they're taken apart and rebuilt from what's left
+			for (Iterator<LiquidForceNetwork> iterator = networks.iterator(); iterator.hasNext();) {
+				LiquidForceNetwork network = iterator.next();
+				if (network.isDirty()) {
+					network.dissolve(pending);
+					iterator.remove();
+				}
+			}
+			while (!pending.isEmpty()) {
+				Iterator<TileEntityForcePipe> iterator = pending.iterator();
+				TileEntityForcePipe pipe = iterator.next();
+				iterator.remove();
+				if (!pipe.isInvalid() && pipe.network == null)
+					networks.add(build(pipe));
+			}
+			for (LiquidForceNetwork network : networks)
+				network.tick();
+		}
+
+		/**
+		 * Flood fills the loaded pipes connected to the given one into a new network, merging any networks it touches
+		 */
+		private LiquidForceNetwork build(TileEntityForcePipe start) {
+			LiquidForceNetwork network = new LiquidForceNetwork(world);
+			network.add(start);
+			ArrayDeque<TileEntityForcePipe> queue = new ArrayDeque<TileEntityForcePipe>();
+			queue.add(start);
+			while (!queue.isEmpty()) {
+				TileEntityForcePipe pipe = queue.poll();
+				for (ForgeDirection direction : ForgeDirection.VALID_DIRECTIONS) {
+					int x = pipe.xCoord+direction.offsetX, y = pipe.yCoord+direction.offsetY, z = pipe.zCoord+direction.offsetZ;
+					if (!world.blockExists(x, y, z))
+						continue;
+					TileEntity tile = world.getTileEntity(x, y, z);
+					if (!(tile instanceof TileEntityForcePipe) || tile.isInvalid())
+						continue;
+					TileEntityForcePipe neighbour = (TileEntityForcePipe) tile;
+					if (neighbour.network == network)
+						continue;
+					if (neighbour.network != null) {
+						LiquidForceNetwork other = neighbour.network;
+						networks.remove(other);
+						other.dissolve(pending);
+					}
+					pending.remove(neighbour);
+					network.add(neighbour);
+					queue.add(neighbour);
+				}
+			}
+			return network;
+		}
+	}
+}
@@ -21,6 +21,8 @@ public class ModBlocks {
 	public static final Block forceLeaves2 = new BlockForceLeaves2();
 	public static final BlockDC forcePlanks = new BlockForcePlanks();
 	public static final BlockDC infuser = new BlockInfuser();
+	public static final BlockDC forceTank = new BlockForceTank();
+	public static final BlockDC forcePipe = new BlockForcePipe();
 	
 	public static void init() {
 		GameRegistry.registerBlock(powerOre, "powerOre");
@@ -32,5 +34,7 @@ public class ModBlocks {
 		GameRegistry.registerBlock(forceLeaves2, ItemBlockForceLeaves.class, "forceLeaves2");
 		GameRegistry.registerBlock(forcePlanks, "forcePlanks");
 		GameRegistry.registerBlock(infuser, "infuser");
+		GameRegistry.registerBlock(forceTank, "forceTank");
+		GameRegistry.registerBlock(forcePipe, "forcePipe");
 	}
 }
@@ -21,6 +21,8 @@ public class Recipes {
 	public static void init() {
 		GameRegistry.addRecipe(new ShapedOreRecipe(new ItemStack(ModItems.clipboard), "pip", "pap", "pap", 'p', "plankWood", 'i', "ingotIron", 'a', new ItemStack(Items.paper)));
 		GameRegistry.addRecipe(new ShapedOreRecipe(new ItemStack(ModItems.forceRod), "  i", " s ", "r  ", 'i', "ingotForce", 's', "stickForce", 'r', Items.redstone));
+		GameRegistry.addRecipe(new ShapedOreRecipe(new ItemStack(ModBlocks.forceTank), "igi", "g g", "igi", 'i', "ingotForce", 'g', "blockGlass"));
+		GameRegistry.addRecipe(new ShapedOreRecipe(new ItemStack(ModBlocks.forcePipe, 8), "ggg", "iii", "ggg", 'i', "ingotForce", 'g', "blockGlass"));
 		GameRegistry.addRecipe(new ShapedOreRecipe(new ItemStack(ModItems.forceMitts), "cl ", "cfi", "cll", 'c', "cobblestone", 'l', Items.leather, 'f', "ingotForce", 'i', "ingotIron"));
 		
 		GameRegistry.addSmelting(ModBlocks.forceLog, new ItemStack(ModItems.goldenPowerSource), .15F);
@@ -0,0 +1,164 @@
+package com.austinv11.dartcraft2.inventory;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Bulk operations on a rectangular, row-major crafting grid (like the clipboard's). Every operation reads the grid
+ * once, works out the result arithmetically and then writes each slot at most once.
+ */
+public class GridOperations {
+
+	private final IInventory grid;
+	private final int width, height;
+	private final int[] ring;
+
+	/**
+	 * @param grid The inventory backing the grid, its first width*height slots are used
+	 * @param width The width of the grid
+	 * @param height The height of the grid
+	 */
+	public GridOperations(IInventory grid, int width, int height) {
+		if (width < 1 || height < 1 || width*height > grid.getSizeInventory())
+			throw new IllegalArgumentException("A "+width+"x"+height+" grid doesn't fit in "+grid.getSizeInventory()+" slots");
+		this.grid = grid;
+		this.width = width;
+		this.height = height;
+		this.ring = buildRing(width, height);
+	}
+
+	/**
+	 * Spreads every kind of item (item, damage and NBT) evenly across the slots it already occupies
+	 */
+	public void distribute() {
+		for (Group group : getGroups().values())
+			fill(group.slots, group.count, group.template, group.total);
+	}
+
+	/**
+	 * Rotates the outer ring of the grid one step counter-clockwise, each ring slot takes the contents of the next one
+	 */
+	public void rotate() {
+		if (ring.length < 2)
+			return;
+		ItemStack first = grid.getStackInSlot(ring[0]);
+		for (int i = 0; i < ring.length-1; i++)
+			grid.setInventorySlotContents(ring[i], grid.getStackInSlot(ring[i+1]));
+		grid.setInventorySlotContents(ring[ring.length-1], first);
+	}
+
+	/**
+	 * If the grid holds a single kind of item with enough of it to cover the outer ring and the ring isn't full yet,
+	 * the items are spread evenly around the ring (leaving the inside empty). Otherwise the ring is rotated.
+	 * Items are only ever moved, never duplicated.
+	 */
+	public void smartAssist() {
+		LinkedHashMap<ItemStackKey, Group> groups = getGroups();
+		boolean ringFull = true;
+		for (int slot : ring)
+			if (grid.getStackInSlot(slot) == null) {
+				ringFull = false;
+				break;
+			}
+		if (ringFull || groups.size() != 1) {
+			rotate();
+			return;
+		}
+		Group group = groups.values().iterator().next();
+		if (group.total < ring.length || group.total > ring.length*Math.min(group.template.getMaxStackSize(), grid.getInventoryStackLimit())) {
+			rotate();
+			return;
+		}
+		for (int i = 0; i < width*height; i++)
+			if (!isOnRing(i) && grid.getStackInSlot(i) != null)
+				grid.setInventorySlotContents(i, null);
+		fill(ring, ring.length, group.template, group.total);
+	}
+
+	/**
+	 * Gets the slots making up the outer ring of the grid, clockwise from the top left
+	 * @return The slot indices
+	 */
+	public int[] getRing() {
+		return ring.clone();
+	}
+
+	private boolean isOnRing(int slot) {
+		int x = slot % width, y = slot / width;
+		return x == 0 || y == 0 || x == width-1 || y == height-1;
+	}
+
+	/**
+	 * Splits total items between the first count slots given, the first total % count slots get one extra
+	 */
+	private void fill(int[] slots, int count, ItemStack template, int total) {
+		int quotient = total / count;
+		int remainder = total % count;
+		for (int i = 0; i < count; i++) {
+			int size = quotient+(i < remainder ? 1 : 0);
+			ItemStack stack = null;
+			if (size > 0) {
+				stack = template.copy();
+				stack.stackSize = size;
+			}
+			grid.setInventorySlotContents(slots[i], stack);
+		}
+	}
+
+	private LinkedHashMap<ItemStackKey, Group> getGroups() {
+		LinkedHashMap<ItemStackKey, Group> groups = new LinkedHashMap<ItemStackKey, Group>();
+		for (int i = 0; i < width*height; i++) {
+			ItemStack stack = grid.getStackInSlot(i);
+			if (stack == null)
+				continue;
+			ItemStackKey key = new ItemStackKey(stack);
+			Group group = groups.get(key);
+			if (group == null) {
+				group = new Group(stack, width*height);
+				groups.put(key, group);
+			}
+			group.add(i, stack.stackSize);
+		}
+		return groups;
+	}
+
+	private static int[] buildRing(int width, int height) {
+		if (width == 1 || height == 1) {
+			int[] line = new int[width*height];
+			for (int i = 0; i < line.length; i++)
+				line[i] = i;
+			return line;
+		}
+		int[] ring = new int[2*(width+height)-4];
+		int i = 0;
+		for (int x = 0; x < width; x++) //Top, left to right
+			ring[i++] = x;
+		for (int y = 1; y < height; y++) //Right, top to bottom
+			ring[i++] = y*width+width-1;
+		for (int x = width-2; x >= 0; x--) //Bottom, right to left
+			ring[i++] = (height-1)*width+x;
+		for (int y = height-2; y > 0; y--) //Left, bottom to top
+			ring[i++] = y*width;
+		return ring;
+	}
+
+	private static class Group {
+
+		private final ItemStack template;
+		private final int[] slots;
+		private int count = 0;
+		private int total = 0;
+
+		private Group(ItemStack template, int gridSize) {
+			this.template = template.copy();
+			this.slots = new int[gridSize];
+		}
+
+		private void add(int slot, int amount) {
+			slots[count++] = slot;
+			total += amount;
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package com.austinv11.dartcraft2.inventory;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants;
+
+/**
+ * An inventory stored on an item. The slots live in a single fixed length {@link NBTTagList} under {@link #TAG},
+ * where the list index is the slot index and an empty compound is an empty slot.
+ * Slots are only decoded when they are first accessed, and only slots which changed are re-encoded when the
+ * inventory is written back. Any other NBT on the item is left alone.
+ */
+public class ItemInventory implements IInventory {
+
+	public static final String TAG = "inventory";
+	private static final String LEGACY_PREFIX = "slot";
+
+	private final String name;
+	private final ItemStack host;
+	private final ItemStack[] stacks;
+	private final ItemStack[] written; //What each loaded slot looked like the last time it was read or written
+	private final boolean[] loaded;
+	private NBTTagList list;
+
+	/**
+	 * @param name The inventory's name
+	 * @param size The number of slots
+	 * @param host The item the inventory is stored on, may be null
+	 */
+	public ItemInventory(String name, int size, ItemStack host) {
+		this.name = name;
+		this.host = host;
+		this.stacks = new ItemStack[size];
+		this.written = new ItemStack[size];
+		this.loaded = new boolean[size];
+		this.list = findList(host); //Only looked up, the item's NBT isn't touched until the inventory is written
+	}
+
+	/**
+	 * Gets the item this inventory was read from
+	 * @return The item
+	 */
+	public ItemStack getHost() {
+		return host;
+	}
+
+	/**
+	 * Writes every slot which changed since it was read back to the item it was read from
+	 */
+	public void writeToItem() {
+		writeToItem(host);
+	}
+
+	/**
+	 * Writes this inventory to an item. If the item isn't the one this inventory was read from, every slot is written.
+	 * @param stack The item to write to, may be null
+	 */
+	public void writeToItem(ItemStack stack) {
+		if (stack == null)
+			return;
+		if (stack != host || list == null || list.tagCount() < stacks.length || stack.stackTagCompound == null
+				|| stack.stackTagCompound.getTag(TAG) != list) {
+			//Either a different item, the list doesn't exist yet or was detached from the item's NBT, so nothing can be assumed
+			for (int i = 0; i < stacks.length; i++)
+				getStackInSlot(i); //Decoded before getList() moves any old per-slot keys
+			NBTTagList target = getList(stack, stacks.length);
+			for (int i = 0; i < stacks.length; i++)
+				target.func_150304_a(i, encode(getStackInSlot(i)));
+			if (stack == host) {
+				list = target;
+				for (int i = 0; i < stacks.length; i++)
+					written[i] = ItemStack.copyItemStack(stacks[i]);
+			}
+			return;
+		}
+		for (int i = 0; i < stacks.length; i++)
+			if (loaded[i] && !ItemStack.areItemStacksEqual(stacks[i], written[i])) {
+				list.func_150304_a(i, encode(stacks[i]));
+				written[i] = ItemStack.copyItemStack(stacks[i]);
+			}
+	}
+
+	@Override
+	public int getSizeInventory() {
+		return stacks.length;
+	}
+
+	@Override
+	public ItemStack getStackInSlot(int slot) {
+		if (!loaded[slot]) {
+			if (list != null && slot < list.tagCount()) {
+				NBTTagCompound tag = list.getCompoundTagAt(slot);
+				stacks[slot] = tag.hasNoTags() ? null : ItemStack.loadItemStackFromNBT(tag);
+			} else if (host != null && host.stackTagCompound != null && host.stackTagCompound.hasKey(LEGACY_PREFIX+slot, Constants.NBT.TAG_COMPOUND)) {
+				stacks[slot] = ItemStack.loadItemStackFromNBT(host.stackTagCompound.getCompoundTag(LEGACY_PREFIX+slot));
+			}
+			written[slot] = ItemStack.copyItemStack(stacks[slot]);
+			loaded[slot] = true;
+		}
+		return stacks[slot];
+	}
+
+	@Override
+	public ItemStack decrStackSize(int slot, int amount) {
+		ItemStack stack = getStackInSlot(slot);
+		if (stack == null)
+			return null;
+		if (stack.stackSize <= amount) {
+			setInventorySlotContents(slot, null);
+			return stack;
+		}
+		ItemStack split = stack.splitStack(amount);
+		markDirty();
+		return split;
+	}
+
+	@Override
+	public ItemStack getStackInSlotOnClosing(int slot) {
+		return null;
+	}
+
+	@Override
+	public void setInventorySlotContents(int slot, ItemStack stack) {
+		getStackInSlot(slot); //Make sure the slot's original contents are known so the change is picked up
+		if (stack != null && stack.stackSize > getInventoryStackLimit())
+			stack.stackSize = getInventoryStackLimit();
+		stacks[slot] = stack;
+		markDirty();
+	}
+
+	@Override
+	public String getInventoryName() {
+		return name;
+	}
+
+	@Override
+	public boolean hasCustomInventoryName() {
+		return false;
+	}
+
+	@Override
+	public int getInventoryStackLimit() {
+		return 64;
+	}
+
+	@Override
+	public void markDirty() {}
+
+	@Override
+	public boolean isUseableByPlayer(EntityPlayer player) {
+		return true;
+	}
+
+	@Override
+	public void openInventory() {}
+
+	@Override
+	public void closeInventory() {}
+
+	@Override
+	public boolean isItemValidForSlot(int slot, ItemStack stack) {
+		return true;
+	}
+
+	/**
+	 * Writes every slot of an inventory straight to an item, without reading what the item held before
+	 * @param inventory The inventory to write
+	 * @param stack The item to write to, may be null
+	 */
+	public static void writeSlots(IInventory inventory, ItemStack stack) {
+		if (stack == null)
+			return;
+		NBTTagList target = getList(stack, inventory.getSizeInventory());
+		for (int i = 0; i < inventory.getSizeInventory(); i++)
+			target.func_150304_a(i, encode(inventory.getStackInSlot(i)));
+	}
+
+	private static NBTTagCompound encode(ItemStack stack) {
+		return stack == null ? new NBTTagCompound() : stack.writeToNBT(new NBTTagCompound());
+	}
+
+	/**
+	 * Gets the slot list stored on an item without changing the item
+	 * @return The list, or null if the item doesn't have one
+	 */
+	private static NBTTagList findList(ItemStack stack) {
+		if (stack == null || stack.stackTagCompound == null || !stack.stackTagCompound.hasKey(TAG, Constants.NBT.TAG_LIST))
+			return null;
+		return (NBTTagList) stack.stackTagCompound.getTag(TAG); //getTagList() hands back a detached list if this one is still empty
+	}
+
+	/**
+	 * Gets the slot list stored on an item, creating it (and migrating the old per-slot keys) if needed.
+	 * The list is padded to the given size.
+	 */
+	private static NBTTagList getList(ItemStack stack, int size) {
+		if (stack == null)
+			return null;
+		if (stack.stackTagCompound == null)
+			stack.setTagCompound(new NBTTagCompound());
+		NBTTagCompound tag = stack.stackTagCompound;
+		NBTTagList list;
+		if (tag.hasKey(TAG, Constants.NBT.TAG_LIST)) {
+			list = (NBTTagList) tag.getTag(TAG); //getTagList() hands back a detached list if this one is still empty
+		} else {
+			list = new NBTTagList();
+			tag.setTag(TAG, list);
+		}
+		for (int i = list.tagCount(); i < size; i++) {
+			String legacyKey = LEGACY_PREFIX+i;
+			if (tag.hasKey(legacyKey, Constants.NBT.TAG_COMPOUND)) {
+				list.appendTag(tag.getCompoundTag(legacyKey));
+				tag.removeTag(legacyKey);
+			} else
+				list.appendTag(new NBTTagCompound());
+		}
+		return list;
+	}
+}
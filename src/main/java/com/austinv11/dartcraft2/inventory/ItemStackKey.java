@@ -0,0 +1,40 @@
+package com.austinv11.dartcraft2.inventory;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+/**
+ * A hash key which treats item stacks with the same item, damage and NBT as equal (stack size is ignored)
+ */
+public class ItemStackKey {
+
+	private final ItemStack stack;
+	private final int hash;
+
+	public ItemStackKey(ItemStack stack) {
+		this.stack = stack;
+		this.hash = 31*Item.getIdFromItem(stack.getItem())+stack.getItemDamage();
+	}
+
+	/**
+	 * Gets the stack this key was made from
+	 * @return The stack
+	 */
+	public ItemStack getStack() {
+		return stack;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof ItemStackKey))
+			return false;
+		ItemStack other = ((ItemStackKey) o).stack;
+		return stack.getItem() == other.getItem() && stack.getItemDamage() == other.getItemDamage()
+				&& ItemStack.areItemStackTagsEqual(stack, other);
+	}
+}
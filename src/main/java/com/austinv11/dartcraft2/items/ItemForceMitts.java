@@ -2,6 +2,7 @@ package com.austinv11.dartcraft2.items;
 
 import com.austinv11.dartcraft2.creativetab.CreativeTabDC;
 import com.austinv11.dartcraft2.reference.Reference;
+import com.austinv11.dartcraft2.utils.TargetingUtils;
 import com.google.common.collect.ImmutableSet;
 import cpw.mods.fml.common.eventhandler.Event;
 import cpw.mods.fml.relauncher.Side;
@@ -10,7 +11,6 @@ import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.texture.IIconRegister;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.player.EntityPlayer;
@@ -18,9 +18,7 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemTool;
-import net.minecraft.util.MathHelper;
 import net.minecraft.util.MovingObjectPosition;
-import net.minecraft.util.Vec3;
 import net.minecraft.world.World;
 import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.MinecraftForge;
@@ -72,8 +70,9 @@ public class ItemForceMitts extends ItemTool {
 	}
 	
 	private void break3x3(EntityPlayer player, World world, int x, int y, int z, Material material) {
-		if (raytraceFromEntity(world, player, false, 7D) != null) {
-			switch (ForgeDirection.getOrientation(raytraceFromEntity(world, player, false, 7D).sideHit)) {
+		MovingObjectPosition target = TargetingUtils.rayTraceBlocks(world, player, false, 7D);
+		if (target != null) {
+			switch (ForgeDirection.getOrientation(target.sideHit)) {
 				case NORTH:
 				case SOUTH:
 					for (int i = -1; i < 2; i++)
@@ -127,30 +126,6 @@ public class ItemForceMitts extends ItemTool {
 		}
 	}
 	
-	private MovingObjectPosition raytraceFromEntity(World world, Entity player, boolean par3, double range) {
-		float f = 1.0F;
-		float f1 = player.prevRotationPitch + (player.rotationPitch - player.prevRotationPitch) * f;
-		float f2 = player.prevRotationYaw + (player.rotationYaw - player.prevRotationYaw) * f;
-		double d0 = player.prevPosX + (player.posX - player.prevPosX) * (double) f;
-		double d1 = player.prevPosY + (player.posY - player.prevPosY) * (double) f;
-		if (!world.isRemote && player instanceof EntityPlayer)
-			d1 += 1.62D;
-		double d2 = player.prevPosZ + (player.posZ - player.prevPosZ) * (double) f;
-		Vec3 vec3 = Vec3.createVectorHelper(d0, d1, d2);
-		float f3 = MathHelper.cos(-f2*0.017453292F-(float) Math.PI);
-		float f4 = MathHelper.sin(-f2 * 0.017453292F - (float) Math.PI);
-		float f5 = -MathHelper.cos(-f1 * 0.017453292F);
-		float f6 = MathHelper.sin(-f1 * 0.017453292F);
-		float f7 = f4 * f5;
-		float f8 = f3 * f5;
-		double d3 = range;
-//		if (player instanceof EntityPlayerMP) {
-//			d3 = ((EntityPlayerMP) player).theItemInWorldManager.getBlockReachDistance();
-//		}
-		Vec3 vec31 = vec3.addVector((double) f7 * d3, (double) f6 * d3, (double) f8 * d3);
-		return world.func_147447_a(vec3, vec31, par3, !par3, par3);
-	}
-	
 	@Override
 	public boolean onItemUse(ItemStack itemstack, EntityPlayer player, World world, int x, int y, int z, int blockMeta, float blockX, float blockY, float blockZ) { //Taken from vanilla code
 		if (!player.canPlayerEdit(x, y, z, blockMeta, itemstack)) {
@@ -2,14 +2,15 @@ package com.austinv11.dartcraft2.items;
 
 import com.austinv11.collectiveframework.minecraft.utils.Colors;
 import com.austinv11.collectiveframework.minecraft.utils.NBTHelper;
-import com.austinv11.dartcraft2.reference.Config;
+import com.austinv11.dartcraft2.events.TomeTierUpEvent;
+import com.austinv11.dartcraft2.utils.TomeProgression;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.StatCollector;
-import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
 import org.lwjgl.input.Keyboard;
 
 import java.util.List;
@@ -35,24 +36,37 @@ public class ItemUpgradeTome extends ItemDC {
 			information.add(Colors.GRAY+StatCollector.translateToLocal("lore.shiftMessage"));
 	}
 	
-	@Override
-	public void onUpdate(ItemStack itemStack, World world, Entity entity, int slot, boolean isInHand) {
-		int xp = getXpNeededForNextTier(itemStack);
-		if (xp <= 0 && xp != Integer.MIN_VALUE) {
-			int remaining = Math.abs(xp);
-			NBTHelper.setInteger(itemStack, "xp", remaining);
-			NBTHelper.setInteger(itemStack, "tier", NBTHelper.getInt(itemStack, "tier")+1);
+	/**
+	 * Gives a tome experience, advancing as many tiers as the total allows (leftover experience carries over).
+	 * A {@link TomeTierUpEvent} is fired if the tier changed.
+	 * @param stack The tome
+	 * @param amount The experience to award
+	 * @return The number of tiers gained
+	 */
+	public static int awardTomeXp(ItemStack stack, int amount) {
+		if (stack == null || !(stack.getItem() instanceof ItemUpgradeTome) || amount < 0)
+			return 0;
+		if (stack.stackTagCompound == null)
+			stack.setTagCompound(new NBTTagCompound());
+		NBTTagCompound tag = stack.stackTagCompound;
+		int oldTier = tag.getInteger("tier");
+		int tier = oldTier;
+		long xp = (long) tag.getInteger("xp")+amount;
+		while (tier < TomeProgression.MAX_TIER && xp >= TomeProgression.getXpForTier(tier+1)) {
+			xp -= TomeProgression.getXpForTier(tier+1);
+			tier++;
 		}
+		tag.setInteger("xp", (int) Math.min(xp, Integer.MAX_VALUE));
+		tag.setInteger("tier", tier);
+		if (tier != oldTier)
+			MinecraftForge.EVENT_BUS.post(new TomeTierUpEvent(stack, oldTier, tier));
+		return tier-oldTier;
 	}
 	
 	private int getXpNeededForNextTier(ItemStack stack) {
-		try {
-			if (NBTHelper.getInt(stack, "tier") != 7) {
-				return Config.class.getDeclaredField("experienceForTier"+(NBTHelper.getInt(stack, "tier")+1)).getInt(null)-NBTHelper.getInt(stack, "xp");
-			}
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return Integer.MIN_VALUE;
+		int tier = NBTHelper.getInt(stack, "tier");
+		if (tier >= TomeProgression.MAX_TIER)
+			return Integer.MIN_VALUE;
+		return TomeProgression.getXpForTier(tier+1)-NBTHelper.getInt(stack, "xp");
 	}
 }
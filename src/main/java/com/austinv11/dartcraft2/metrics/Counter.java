@@ -0,0 +1,77 @@
+package com.austinv11.dartcraft2.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter which only ever goes up. Each thread adds to its own stripe so counting never locks, the stripes are
+ * only summed up when the counter is read.
+ */
+public class Counter {
+
+	private static final int STRIPES = 8; //Must be a power of two
+	private static final int PAD = 8; //Keeps each stripe on its own cache line
+
+	private final String name, label, help;
+	private final AtomicLongArray cells = new AtomicLongArray(STRIPES*PAD);
+
+	Counter(String name, String label, String help) {
+		this.name = name;
+		this.label = label;
+		this.help = help;
+	}
+
+	/**
+	 * Adds one to the counter
+	 */
+	public void increment() {
+		add(1);
+	}
+
+	/**
+	 * Adds to the counter
+	 * @param amount The amount to add, ignored if it isn't positive
+	 */
+	public void add(long amount) {
+		if (amount > 0)
+			cells.addAndGet(((int) Thread.currentThread().getId() & (STRIPES-1))*PAD, amount);
+	}
+
+	/**
+	 * Gets everything counted since the game started
+	 * @return The total
+	 */
+	public long get() {
+		long total = 0;
+		for (int stripe = 0; stripe < STRIPES; stripe++)
+			total += cells.get(stripe*PAD);
+		return total;
+	}
+
+	/**
+	 * @return The name of the metric this counter belongs to
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return The type label telling this counter apart from the others with the same name, or null
+	 */
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * @return A short description of what is counted
+	 */
+	public String getHelp() {
+		return help;
+	}
+
+	/**
+	 * @return The name and label joined into a single key
+	 */
+	public String getKey() {
+		return label == null ? name : name+"."+label;
+	}
+}
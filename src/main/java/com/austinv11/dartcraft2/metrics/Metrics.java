@@ -0,0 +1,97 @@
+package com.austinv11.dartcraft2.metrics;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds DartCraft 2's runtime counters. Counting is lock free and safe from any thread, the {@link MetricsWriter}
+ * reads the counters from its own thread.
+ */
+public class Metrics {
+
+	private static final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<String, Counter>();
+	private static final ConcurrentHashMap<Class, Counter[]> packetCounters = new ConcurrentHashMap<Class, Counter[]>();
+
+	public static final Counter TRANSMUTATIONS = counter("transmutations", "Blocks and items transmuted");
+	public static final Counter AURA_BURSTS = counter("aura_bursts", "Passive aura bursts");
+	public static final Counter AURA_MOVED = counter("aura_moved", "Aura received by absorbers from passive aura bursts");
+	public static final Counter INFUSIONS = counter("infusions_completed", "Infusions completed");
+	public static final Counter TREES_GROWN = counter("trees_grown", "Force trees grown");
+	public static final Counter PARTICLES_SUPPRESSED = counter("particles_suppressed", "Particles not spawned because of the particle budgets");
+
+	/**
+	 * Gets a counter, registering it if it doesn't exist yet
+	 * @param name The name of the metric, made up of lowercase letters and underscores
+	 * @param help A short description of what is counted
+	 * @return The counter
+	 */
+	public static Counter counter(String name, String help) {
+		return counter(name, null, help);
+	}
+
+	/**
+	 * Gets a labelled counter, registering it if it doesn't exist yet
+	 * @param name The name of the metric, made up of lowercase letters and underscores
+	 * @param label The type label, or null
+	 * @param help A short description of what is counted
+	 * @return The counter
+	 */
+	public static Counter counter(String name, String label, String help) {
+		Counter counter = new Counter(name, label, help);
+		Counter existing = counters.putIfAbsent(counter.getKey(), counter);
+		return existing == null ? counter : existing;
+	}
+
+	/**
+	 * Gets every registered counter
+	 * @return A copy of the counters
+	 */
+	public static List<Counter> getCounters() {
+		return new ArrayList<Counter>(counters.values());
+	}
+
+	/**
+	 * Counts a packet being written to the network
+	 * @param message The packet
+	 * @param bytes The size of the packet
+	 */
+	public static void packetSent(IMessage message, int bytes) {
+		Counter[] counters = getPacketCounters(message.getClass());
+		counters[0].increment();
+		counters[1].add(bytes);
+	}
+
+	/**
+	 * Counts a packet being read from the network
+	 * @param message The packet
+	 * @param bytes The size of the packet
+	 */
+	public static void packetReceived(IMessage message, int bytes) {
+		Counter[] counters = getPacketCounters(message.getClass());
+		counters[2].increment();
+		counters[3].add(bytes);
+	}
+
+	/**
+	 * Counts a packet which was dropped by the rate limiter
+	 * @param message The packet
+	 */
+	public static void packetDropped(IMessage message) {
+		getPacketCounters(message.getClass())[4].increment();
+	}
+
+	private static Counter[] getPacketCounters(Class type) {
+		Counter[] counters = packetCounters.get(type);
+		if (counters == null) {
+			String label = type.getSimpleName();
+			counters = new Counter[]{counter("packets_sent", label, "Packets sent"), counter("packet_bytes_sent", label, "Bytes of packets sent"),
+					counter("packets_received", label, "Packets received"), counter("packet_bytes_received", label, "Bytes of packets received"),
+					counter("packets_dropped", label, "Packets dropped by the rate limiter")};
+			packetCounters.putIfAbsent(type, counters);
+		}
+		return counters;
+	}
+}
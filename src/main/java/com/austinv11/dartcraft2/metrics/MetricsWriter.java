@@ -0,0 +1,151 @@
+package com.austinv11.dartcraft2.metrics;
+
+import com.austinv11.dartcraft2.DartCraft2;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the {@link Metrics} counters to a file at the end of every window, on its own thread.
+ * In the json format a line with what was counted during the window is appended to the file for each window, in the
+ * prometheus format the file is replaced with the totals so far in the Prometheus text exposition format.
+ */
+public class MetricsWriter implements Runnable {
+
+	private static MetricsWriter instance;
+	private static ScheduledExecutorService executor;
+
+	private final File file;
+	private final boolean prometheus;
+	private final HashMap<String, Long> lastTotals = new HashMap<String, Long>();
+	private long windowStart;
+
+	private MetricsWriter(File file, boolean prometheus) {
+		this.file = file;
+		this.prometheus = prometheus;
+		for (Counter counter : Metrics.getCounters())
+			lastTotals.put(counter.getKey(), counter.get());
+		windowStart = System.currentTimeMillis();
+	}
+
+	/**
+	 * Starts writing metrics, windows line up with the wall clock so each one ends on a multiple of its length
+	 * @param file The file to write to
+	 * @param format Either "json" or "prometheus"
+	 * @param windowSeconds The length of each window
+	 */
+	public static synchronized void start(File file, String format, int windowSeconds) {
+		stop();
+		boolean prometheus = format.equalsIgnoreCase("prometheus");
+		if (!prometheus && !format.equalsIgnoreCase("json"))
+			DartCraft2.LOGGER.warn("Unknown metrics format '"+format+"', using json");
+		long window = Math.max(1, windowSeconds)*1000L;
+		instance = new MetricsWriter(file.getAbsoluteFile(), prometheus);
+		executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "DartCraft 2 Metrics Writer");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		executor.scheduleAtFixedRate(instance, window-System.currentTimeMillis()%window, window, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops writing metrics, writing out the window in progress first
+	 */
+	public static synchronized void stop() {
+		if (executor == null)
+			return;
+		executor.shutdown();
+		try {
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		instance.run();
+		executor = null;
+		instance = null;
+	}
+
+	@Override
+	public synchronized void run() {
+		long windowEnd = System.currentTimeMillis();
+		List<Counter> counters = Metrics.getCounters();
+		Collections.sort(counters, new Comparator<Counter>() {
+			@Override
+			public int compare(Counter a, Counter b) {
+				int byName = a.getName().compareTo(b.getName());
+				if (byName != 0)
+					return byName;
+				return a.getLabel() == null ? (b.getLabel() == null ? 0 : -1) : (b.getLabel() == null ? 1 : a.getLabel().compareTo(b.getLabel()));
+			}
+		});
+		try {
+			if (prometheus)
+				writePrometheus(counters);
+			else
+				writeJson(counters, windowEnd);
+		} catch (IOException e) {
+			DartCraft2.LOGGER.warn("Unable to write metrics to "+file+": "+e.getMessage());
+		}
+		windowStart = windowEnd;
+	}
+
+	private void writeJson(List<Counter> counters, long windowEnd) throws IOException {
+		StringBuilder line = new StringBuilder();
+		line.append("{\"start\":").append(windowStart).append(",\"end\":").append(windowEnd).append(",\"counters\":{");
+		boolean first = true;
+		for (Counter counter : counters) {
+			long total = counter.get();
+			Long last = lastTotals.put(counter.getKey(), total);
+			if (!first)
+				line.append(',');
+			first = false;
+			line.append('"').append(counter.getKey()).append("\":").append(last == null ? total : total-last);
+		}
+		line.append("}}\n");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), "UTF-8");
+		try {
+			writer.write(line.toString());
+		} finally {
+			writer.close();
+		}
+	}
+
+	private void writePrometheus(List<Counter> counters) throws IOException {
+		StringBuilder text = new StringBuilder();
+		String lastName = null;
+		for (Counter counter : counters) {
+			String name = "dartcraft2_"+counter.getName()+"_total";
+			if (!name.equals(lastName)) {
+				text.append("# HELP ").append(name).append(' ').append(counter.getHelp()).append('\n');
+				text.append("# TYPE ").append(name).append(" counter\n");
+				lastName = name;
+			}
+			text.append(name);
+			if (counter.getLabel() != null)
+				text.append("{type=\"").append(counter.getLabel()).append("\"}");
+			text.append(' ').append(counter.get()).append('\n');
+		}
+		//Written to a temporary file first so the scraper never sees a half written file
+		File temp = new File(file.getPath()+".tmp");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(temp), "UTF-8");
+		try {
+			writer.write(text.toString());
+		} finally {
+			writer.close();
+		}
+		if (!temp.renameTo(file) && (!file.delete() || !temp.renameTo(file)))
+			throw new IOException("Unable to replace "+file);
+	}
+}
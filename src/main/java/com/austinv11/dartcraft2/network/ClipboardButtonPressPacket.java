@@ -1,83 +1,92 @@
 package com.austinv11.dartcraft2.network;
 
-import com.austinv11.collectiveframework.minecraft.utils.WorldUtils;
 import com.austinv11.dartcraft2.container.ContainerClipboard;
-import cpw.mods.fml.common.network.ByteBufUtils;
+import com.austinv11.dartcraft2.metrics.Metrics;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
 import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
 import cpw.mods.fml.common.network.simpleimpl.MessageContext;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.world.World;
 
 public class ClipboardButtonPressPacket implements IMessage {
 	
-	public String player;
 	public EnumButtonType buttonType;
-	public World world;
+	public int amount = 0;
 	
 	public ClipboardButtonPressPacket() {
 		
 	}
 	
-	public ClipboardButtonPressPacket(EntityPlayer player, EnumButtonType buttonType) {
-		this.player = player.getCommandSenderName();
+	public ClipboardButtonPressPacket(EnumButtonType buttonType) {
 		this.buttonType = buttonType;
-		world = player.getEntityWorld();
+	}
+	
+	/**
+	 * Creates a packet asking the server to batch craft the clipboard's recipe
+	 * @param amount The maximum number of crafts
+	 */
+	public ClipboardButtonPressPacket(int amount) {
+		this(EnumButtonType.CRAFT);
+		this.amount = amount;
 	}
 	
 	@Override
 	public void fromBytes(ByteBuf buf) {
-		NBTTagCompound tag = ByteBufUtils.readTag(buf);
-		player = tag.getString("player");
-		switch (tag.getInteger("type")) {
-			case 0:
-				buttonType = EnumButtonType.DISTRIBUTE;
-				break;
-			case 1:
-				buttonType = EnumButtonType.SMART_ASSIST;
-				break;
-			case 2:
-				buttonType = EnumButtonType.REMOVE;
-				break;
-		}
-		world = WorldUtils.getWorldFromDimensionId(tag.getInteger("dim"));
+		Metrics.packetReceived(this, buf.readableBytes());
+		int type = buf.readByte();
+		buttonType = type >= 0 && type < EnumButtonType.values().length ? EnumButtonType.values()[type] : null;
+		amount = buf.readInt();
 	}
 	
 	@Override
 	public void toBytes(ByteBuf buf) {
-		NBTTagCompound tag = new NBTTagCompound();
-		tag.setString("player", player);
-		tag.setInteger("type", buttonType.ordinal());
-		tag.setInteger("dim", world.provider.dimensionId);
-		ByteBufUtils.writeTag(buf, tag);
+		int start = buf.writerIndex();
+		buf.writeByte(buttonType.ordinal());
+		buf.writeInt(amount);
+		Metrics.packetSent(this, buf.writerIndex()-start);
 	}
 	
 	public static class ClipboardButtonPressPacketHandler implements IMessageHandler<ClipboardButtonPressPacket, IMessage> {
 		
 		@Override
-		public IMessage onMessage(ClipboardButtonPressPacket message, MessageContext ctx) {
-			EntityPlayer player = WorldUtils.getPlayerForWorld(message.player, message.world);
-			if (player != null) {
-				if (player.openContainer instanceof ContainerClipboard)
-					switch (message.buttonType) {
-						case DISTRIBUTE:
-							((ContainerClipboard) player.openContainer).doItemDistribution();
-							break;
-						case SMART_ASSIST:
-							((ContainerClipboard) player.openContainer).doSmartAssist();
-							break;
-						case REMOVE:
-							((ContainerClipboard) player.openContainer).doRemoveItems();
-							break;
-					}
-			}
+		public IMessage onMessage(final ClipboardButtonPressPacket message, MessageContext ctx) {
+			final EntityPlayer player = ctx.getServerHandler().playerEntity;
+			if (message.buttonType == null || !PacketRateLimiter.INSTANCE.admit(player, message, message.buttonType, message.amount))
+				return null;
+			ServerTaskQueue.INSTANCE.schedule(new Runnable() {
+				@Override
+				public void run() {
+					long start = TickProfiler.start();
+					handle(message, player);
+					TickProfiler.stop(Subsystem.PACKET_HANDLER, start);
+				}
+			});
 			return null;
 		}
+		
+		private void handle(ClipboardButtonPressPacket message, EntityPlayer player) {
+			if (player.openContainer instanceof ContainerClipboard && player.openContainer.canInteractWith(player)) {
+				switch (message.buttonType) {
+					case DISTRIBUTE:
+						((ContainerClipboard) player.openContainer).doItemDistribution();
+						break;
+					case SMART_ASSIST:
+						((ContainerClipboard) player.openContainer).doSmartAssist();
+						break;
+					case REMOVE:
+						((ContainerClipboard) player.openContainer).doRemoveItems();
+						break;
+					case CRAFT:
+						((ContainerClipboard) player.openContainer).doBatchCraft(message.amount);
+						break;
+				}
+			}
+		}
 	}
 	
 	public enum EnumButtonType {
-		DISTRIBUTE, SMART_ASSIST, REMOVE
+		DISTRIBUTE, SMART_ASSIST, REMOVE, CRAFT
 	}
 }
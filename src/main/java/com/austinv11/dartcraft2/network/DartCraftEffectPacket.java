@@ -1,6 +1,7 @@
 package com.austinv11.dartcraft2.network;
 
 import com.austinv11.collectiveframework.minecraft.utils.WorldUtils;
+import com.austinv11.dartcraft2.metrics.Metrics;
 import com.austinv11.dartcraft2.proxy.ClientProxy;
 import com.austinv11.dartcraft2.reference.Reference;
 import cpw.mods.fml.common.network.ByteBufUtils;
@@ -40,6 +41,7 @@ public class DartCraftEffectPacket implements IMessage {
 	
 	@Override
 	public void fromBytes(ByteBuf buf) {
+		Metrics.packetReceived(this, buf.readableBytes());
 		NBTTagCompound tag = ByteBufUtils.readTag(buf);
 		world = WorldUtils.getWorldFromDimensionId(tag.getInteger("dim"));
 		x = tag.getDouble("x");
@@ -49,12 +51,14 @@ public class DartCraftEffectPacket implements IMessage {
 	
 	@Override
 	public void toBytes(ByteBuf buf) {
+		int start = buf.writerIndex();
 		NBTTagCompound tag = new NBTTagCompound();
 		tag.setInteger("dim", world.provider.dimensionId);
 		tag.setDouble("x", x);
 		tag.setDouble("y", y);
 		tag.setDouble("z", z);
 		ByteBufUtils.writeTag(buf, tag);
+		Metrics.packetSent(this, buf.writerIndex()-start);
 	}
 	
 	public static class DartCraftEffectPacketHandler implements IMessageHandler<DartCraftEffectPacket, IMessage> {
@@ -1,6 +1,9 @@
 package com.austinv11.dartcraft2.network;
 
 import com.austinv11.dartcraft2.DartCraft2;
+import com.austinv11.dartcraft2.metrics.Metrics;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
 import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
 import cpw.mods.fml.common.network.simpleimpl.MessageContext;
@@ -19,19 +22,29 @@ public class OpenGuiContainerPacket implements IMessage {
 
     @Override
     public void fromBytes(ByteBuf buf) {
+        Metrics.packetReceived(this, buf.readableBytes());
         guiID = buf.readInt();
     }
 
     @Override
     public void toBytes(ByteBuf buf) {
+        int start = buf.writerIndex();
         buf.writeInt(guiID);
+        Metrics.packetSent(this, buf.writerIndex()-start);
     }
 
     public static class OpenGuiContainerPacketHandler implements IMessageHandler<OpenGuiContainerPacket, IMessage> {
         @Override
-        public IMessage onMessage(OpenGuiContainerPacket message, MessageContext ctx) {
-            EntityPlayer player = ctx.getServerHandler().playerEntity;
-            player.openGui(DartCraft2.instance, message.guiID, player.worldObj, (int) player.posX, (int) player.posY, (int) player.posZ);
+        public IMessage onMessage(final OpenGuiContainerPacket message, MessageContext ctx) {
+            final EntityPlayer player = ctx.getServerHandler().playerEntity;
+            ServerTaskQueue.INSTANCE.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    long start = TickProfiler.start();
+                    player.openGui(DartCraft2.instance, message.guiID, player.worldObj, (int) player.posX, (int) player.posY, (int) player.posZ);
+                    TickProfiler.stop(Subsystem.PACKET_HANDLER, start);
+                }
+            });
             return null;
         }
     }
@@ -0,0 +1,90 @@
+package com.austinv11.dartcraft2.network;
+
+import com.austinv11.dartcraft2.metrics.Metrics;
+import com.austinv11.dartcraft2.reference.Config;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.PlayerEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import net.minecraft.entity.player.EntityPlayer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Limits how fast each player can make DartCraft 2 do things through packets. Every player has a token bucket per
+ * packet type, and a request identical to one already made by the same player during the current tick is dropped
+ * without costing a token. This is called from the network threads.
+ */
+public class PacketRateLimiter {
+
+	public static final PacketRateLimiter INSTANCE = new PacketRateLimiter();
+
+	private final ConcurrentHashMap<UUID, ConcurrentHashMap<Class, Bucket>> buckets = new ConcurrentHashMap<UUID, ConcurrentHashMap<Class, Bucket>>();
+	private final Map<List<Object>, Boolean> seenThisTick = new ConcurrentHashMap<List<Object>, Boolean>();
+
+	private PacketRateLimiter() {}
+
+	/**
+	 * Checks whether a player's request should be acted on, counting it as dropped if it shouldn't
+	 * @param player The player who sent the packet
+	 * @param message The packet
+	 * @param request The values making up the request, requests with equal values are collapsed within a tick
+	 * @return True if the request should be acted on
+	 */
+	public boolean admit(EntityPlayer player, IMessage message, Object... request) {
+		Object[] key = new Object[request.length+2];
+		key[0] = player.getUniqueID();
+		key[1] = message.getClass();
+		System.arraycopy(request, 0, key, 2, request.length);
+		if (seenThisTick.put(Arrays.asList(key), Boolean.TRUE) != null || !getBucket(player.getUniqueID(), message.getClass()).tryTake()) {
+			Metrics.packetDropped(message);
+			return false;
+		}
+		return true;
+	}
+
+	private Bucket getBucket(UUID player, Class type) {
+		ConcurrentHashMap<Class, Bucket> playerBuckets = buckets.get(player);
+		if (playerBuckets == null) {
+			buckets.putIfAbsent(player, new ConcurrentHashMap<Class, Bucket>());
+			playerBuckets = buckets.get(player);
+		}
+		Bucket bucket = playerBuckets.get(type);
+		if (bucket == null) {
+			playerBuckets.putIfAbsent(type, new Bucket());
+			bucket = playerBuckets.get(type);
+		}
+		return bucket;
+	}
+
+	@SubscribeEvent
+	public void onServerTick(TickEvent.ServerTickEvent event) {
+		if (event.phase == TickEvent.Phase.START)
+			seenThisTick.clear();
+	}
+
+	@SubscribeEvent
+	public void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+		buckets.remove(event.player.getUniqueID());
+	}
+
+	private static class Bucket {
+
+		private double tokens = Config.packetBurst;
+		private long lastRefill = System.nanoTime();
+
+		private synchronized boolean tryTake() {
+			long now = System.nanoTime();
+			tokens = Math.min(Config.packetBurst, tokens+(now-lastRefill)*Config.packetsPerSecond/1E9);
+			lastRefill = now;
+			if (tokens < 1)
+				return false;
+			tokens--;
+			return true;
+		}
+	}
+}
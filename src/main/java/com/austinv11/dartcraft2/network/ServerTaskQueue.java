@@ -0,0 +1,53 @@
+package com.austinv11.dartcraft2.network;
+
+import com.austinv11.dartcraft2.DartCraft2;
+import com.austinv11.dartcraft2.reference.Config;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Runs work handed over by the network threads on the server thread. Packet handlers are called on a netty thread
+ * in 1.7.10, so they only decode the packet and schedule what it asks for here, which is run at the start of the next
+ * server tick. Only a limited amount of tasks is run per tick, the rest wait for the following ticks.
+ */
+public class ServerTaskQueue {
+
+	public static final ServerTaskQueue INSTANCE = new ServerTaskQueue();
+
+	private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+	private ServerTaskQueue() {}
+
+	/**
+	 * Schedules a task to be run on the server thread, this may be called from any thread
+	 * @param task The task
+	 */
+	public void schedule(Runnable task) {
+		tasks.offer(task);
+	}
+
+	/**
+	 * Drops every task which hasn't been run yet, called when the server stops
+	 */
+	public void clear() {
+		tasks.clear();
+	}
+
+	@SubscribeEvent
+	public void onServerTick(TickEvent.ServerTickEvent event) {
+		if (event.phase != TickEvent.Phase.START)
+			return;
+		Runnable task;
+		for (int i = 0; i < Config.maxServerTasksPerTick && (task = tasks.poll()) != null; i++) {
+			try {
+				task.run();
+			} catch (Exception e) {
+				//One bad packet shouldn't take the whole server down
+				DartCraft2.LOGGER.warn("Exception running a scheduled task: "+e);
+				e.printStackTrace();
+			}
+		}
+	}
+}
@@ -1,26 +1,27 @@
 package com.austinv11.dartcraft2.network;
 
-import com.austinv11.collectiveframework.minecraft.utils.WorldUtils;
 import com.austinv11.dartcraft2.DartCraft2;
 import com.austinv11.dartcraft2.api.ITransmutationItem;
 import com.austinv11.dartcraft2.api.ITransmutationRecipeHandler;
-import cpw.mods.fml.common.network.ByteBufUtils;
+import com.austinv11.dartcraft2.metrics.Metrics;
+import com.austinv11.dartcraft2.profiling.CallWatchdog;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
 import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
 import cpw.mods.fml.common.network.simpleimpl.MessageContext;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityItem;
-import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 
 public class TransmutePacket implements IMessage {
 	
-	public World world;
+	public static final int ENTITY_RANGE = 17; //How far along the player's look a dropped item can be transmuted from
+	
 	public int x, y, z;
-	public EntityPlayer player;
 	public boolean isEntity = false;
 	public int entityId;
 	
@@ -28,75 +29,92 @@ public class TransmutePacket implements IMessage {
 		
 	}
 	
-	public TransmutePacket(World world, int x, int y, int z, EntityPlayer player) {
-		this.world = world;
+	public TransmutePacket(int x, int y, int z) {
 		this.x = x;
 		this.y = y;
 		this.z = z;
-		this.player = player;
 	}
 	
-	public TransmutePacket(Entity entity, EntityPlayer player) {
-		world = entity.worldObj;
+	public TransmutePacket(Entity entity) {
 		isEntity = true;
 		entityId = entity.getEntityId();
-		this.player = player;
 	}
 	
 	@Override
 	public void fromBytes(ByteBuf buf) {
-		NBTTagCompound tag = ByteBufUtils.readTag(buf);
-		world = WorldUtils.getWorldFromDimensionId(tag.getInteger("dim"));
-		isEntity = tag.getBoolean("isEntity");
-		if (isEntity) 
-			entityId = tag.getInteger("entityId");
+		Metrics.packetReceived(this, buf.readableBytes());
+		isEntity = buf.readBoolean();
+		if (isEntity)
+			entityId = buf.readInt();
 		else {
-			x = tag.getInteger("x");
-			y = tag.getInteger("y");
-			z = tag.getInteger("z");
+			x = buf.readInt();
+			y = buf.readInt();
+			z = buf.readInt();
 		}
-		player = (EntityPlayer) world.getEntityByID(tag.getInteger("player"));
 	}
 	
 	@Override
 	public void toBytes(ByteBuf buf) {
-		NBTTagCompound tag = new NBTTagCompound();
-		tag.setBoolean("isEntity", isEntity);
-		tag.setInteger("player", player.getEntityId());
-		tag.setInteger("dim", world.provider.dimensionId);
+		int start = buf.writerIndex();
+		buf.writeBoolean(isEntity);
 		if (isEntity)
-			tag.setInteger("entityId", entityId);
+			buf.writeInt(entityId);
 		else {
-			tag.setInteger("x", x);
-			tag.setInteger("y", y);
-			tag.setInteger("z", z);
+			buf.writeInt(x);
+			buf.writeInt(y);
+			buf.writeInt(z);
 		}
-		ByteBufUtils.writeTag(buf, tag);
+		Metrics.packetSent(this, buf.writerIndex()-start);
 	}
 	
 	public static class TransmutePacketHandler implements IMessageHandler<TransmutePacket, IMessage> {
 		
 		@Override
-		public IMessage onMessage(TransmutePacket message, MessageContext ctx) {
+		public IMessage onMessage(final TransmutePacket message, MessageContext ctx) {
+			final EntityPlayerMP sender = ctx.getServerHandler().playerEntity;
+			if (!PacketRateLimiter.INSTANCE.admit(sender, message, message.isEntity, message.entityId, message.x, message.y, message.z))
+				return null;
+			ServerTaskQueue.INSTANCE.schedule(new Runnable() {
+				@Override
+				public void run() {
+					long start = TickProfiler.start();
+					IMessage reply = handle(message, sender);
+					TickProfiler.stop(Subsystem.PACKET_HANDLER, start);
+					if (reply != null)
+						DartCraft2.NETWORK.sendTo(reply, sender);
+				}
+			});
+			return null;
+		}
+		
+		private IMessage handle(TransmutePacket message, EntityPlayerMP player) {
+			World world = player.worldObj;
+			ItemStack rodStack = player.getCurrentEquippedItem();
+			if (rodStack == null || !(rodStack.getItem() instanceof ITransmutationItem) || CallWatchdog.isSuspended(rodStack.getItem()))
+				return null;
+			ITransmutationItem rod = (ITransmutationItem) rodStack.getItem();
 			if (message.isEntity) {
-				Entity entity = message.world.getEntityByID(message.entityId);
-				if (entity instanceof EntityItem) {
+				Entity entity = world.getEntityByID(message.entityId);
+				if (entity instanceof EntityItem && !entity.isDead && entity.getDistanceSqToEntity(player) <= (ENTITY_RANGE+1)*(ENTITY_RANGE+1)) {
 					ItemStack original = ((EntityItem) entity).getEntityItem();
 					ITransmutationRecipeHandler.ItemInfo toTransmute = DartCraft2.TRANSMUTATION_HANDLER.getAvailableTransmutation(original.getItem(), 
 							original.getItemDamage());
 					if (toTransmute != null) {
 						ItemStack newStack = new ItemStack(toTransmute.item, 0, toTransmute.meta);
 						int originalStackSize = original.stackSize;
-						for (int i = 0; i < originalStackSize; i++)
-							if (((ITransmutationItem) message.player.getCurrentEquippedItem().getItem()).canTransmute(message.player.getCurrentEquippedItem(),
-									original.getItem(), original.getItemDamage(), toTransmute.item, toTransmute.meta)) {
-								((ITransmutationItem) message.player.getCurrentEquippedItem().getItem()).transmute(message.player.getCurrentEquippedItem(),
-										original.getItem(), original.getItemDamage(), toTransmute.item, toTransmute.meta);
+						int x = (int) Math.floor(entity.posX), y = (int) Math.floor(entity.posY), z = (int) Math.floor(entity.posZ);
+						for (int i = 0; i < originalStackSize; i++) {
+							long call = CallWatchdog.begin(rod, world, x, y, z);
+							if (rod.canTransmute(rodStack, original.getItem(), original.getItemDamage(), toTransmute.item, toTransmute.meta)) {
+								rod.transmute(rodStack, original.getItem(), original.getItemDamage(), toTransmute.item, toTransmute.meta);
 								newStack.stackSize++;
+								Metrics.TRANSMUTATIONS.increment();
 								original.stackSize--;
 							}
+							CallWatchdog.end(call);
+						}
 						EntityItem transmutedEntity = new EntityItem(entity.worldObj, entity.posX, entity.posY, entity.posZ, newStack);
-						message.world.spawnEntityInWorld(transmutedEntity);
+						world.spawnEntityInWorld(transmutedEntity);
 						if (original.stackSize <= 0)
 							entity.setDead();
 						else
@@ -105,16 +123,23 @@ public class TransmutePacket implements IMessage {
 					}
 				}
 			} else {
+				double reach = player.theItemInWorldManager.getBlockReachDistance()+1;
+				if (player.getDistanceSq(message.x+.5, message.y+.5, message.z+.5) > reach*reach || !world.blockExists(message.x, message.y, message.z))
+					return null;
 				ITransmutationRecipeHandler.BlockInfo toTransmute = DartCraft2.TRANSMUTATION_HANDLER.getAvailableTransmutation(
-						message.world.getBlock(message.x, message.y, message.z), message.world.getBlockMetadata(message.x, message.y, message.z));
-				if (toTransmute != null)
-					if (((ITransmutationItem) message.player.getCurrentEquippedItem().getItem()).canTransmute(
-							message.world, message.x, message.y, message.z, message.player.getCurrentEquippedItem(), toTransmute.block, toTransmute.meta)) {
-						((ITransmutationItem) message.player.getCurrentEquippedItem().getItem()).transmute(
-								message.world, message.x, message.y, message.z, message.player.getCurrentEquippedItem(), toTransmute.block, toTransmute.meta);
-						message.world.setBlock(message.x, message.y, message.z, toTransmute.block, toTransmute.meta, 3);
-						return new DartCraftEffectPacket(message.world, message.x, message.y, message.z);
+						world.getBlock(message.x, message.y, message.z), world.getBlockMetadata(message.x, message.y, message.z));
+				if (toTransmute != null) {
+					long call = CallWatchdog.begin(rod, world, message.x, message.y, message.z);
+					boolean transmuted = rod.canTransmute(world, message.x, message.y, message.z, rodStack, toTransmute.block, toTransmute.meta);
+					if (transmuted)
+						rod.transmute(world, message.x, message.y, message.z, rodStack, toTransmute.block, toTransmute.meta);
+					CallWatchdog.end(call);
+					if (transmuted) {
+						world.setBlock(message.x, message.y, message.z, toTransmute.block, toTransmute.meta, 3);
+						Metrics.TRANSMUTATIONS.increment();
+						return new DartCraftEffectPacket(world, message.x, message.y, message.z);
 					}
+				}
 			}
 			return null;
 		}
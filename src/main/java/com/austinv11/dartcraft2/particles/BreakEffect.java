@@ -9,6 +9,10 @@ import net.minecraft.world.World;
 @SideOnly(Side.CLIENT)
 public class BreakEffect extends EntityFX {
 	
+	long chunkKey;
+	int lastUpdateTick;
+	boolean pooled = false;
+	
 	protected BreakEffect(World world, double x, double y, double z) {
 		super(world, x, y, z);
 		this.particleGravity = .15F;
@@ -26,6 +30,42 @@ public class BreakEffect extends EntityFX {
 		this.noClip = true;
 	}
 	
+	/**
+	 * Reinitializes a recycled effect as if it was freshly constructed
+	 * @param world The world
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @param motionX The x motion
+	 * @param motionY The y motion
+	 * @param motionZ The z motion
+	 * @return This effect
+	 */
+	BreakEffect reset(World world, double x, double y, double z, double motionX, double motionY, double motionZ) {
+		this.worldObj = world;
+		this.isDead = false;
+		this.setPosition(x, y, z);
+		this.prevPosX = this.lastTickPosX = x;
+		this.prevPosY = this.lastTickPosY = y;
+		this.prevPosZ = this.lastTickPosZ = z;
+		this.motionX = motionX*.055;
+		this.motionY = motionY*.055;
+		this.motionZ = motionZ*.055;
+		this.particleAge = 0;
+		this.particleMaxAge = (int)(4.0F/(this.rand.nextFloat()*0.9F+0.1F));
+		this.particleScale = (this.rand.nextFloat()*0.5F+0.5F)*2.0F;
+		this.particleAlpha = 1.0F;
+		this.particleGravity = .15F;
+		return this;
+	}
+	
+	@Override
+	public void onUpdate() {
+		super.onUpdate();
+		if (pooled)
+			lastUpdateTick = ParticleManager.INSTANCE.getTick();
+	}
+	
 	@Override
 	public int getFXLayer() {
 		return 1;
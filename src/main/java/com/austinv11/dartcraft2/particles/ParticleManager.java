@@ -0,0 +1,183 @@
+package com.austinv11.dartcraft2.particles;
+
+import com.austinv11.dartcraft2.metrics.Metrics;
+import com.austinv11.dartcraft2.reference.Config;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.particle.EffectRenderer;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.world.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Spawns DartCraft 2 particles while keeping them within a global and a per-chunk budget. Spawn chance also falls off
+ * with distance from the camera, and {@link BreakEffect}s are recycled instead of being reallocated.
+ * Everything in here runs on the client thread.
+ */
+@SideOnly(Side.CLIENT)
+public class ParticleManager {
+
+	public static final ParticleManager INSTANCE = new ParticleManager();
+
+	private static final int MAX_POOL_SIZE = 512;
+	private static final int STALE_TICKS = 2; //An effect not updated for this long has been dropped by the effect renderer
+
+	private final ArrayDeque<BreakEffect> pool = new ArrayDeque<BreakEffect>();
+	private final List<BreakEffect> active = new ArrayList<BreakEffect>();
+	private final HashMap<Long, int[]> chunkCounts = new HashMap<Long, int[]>();
+	private final Random random = new Random();
+	private World lastWorld;
+	private int tick = 0;
+	private long suppressed = 0;
+
+	private ParticleManager() {}
+
+	/**
+	 * Spawns a break effect into the client's effect renderer
+	 * @param world The world
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @param motionX The x motion
+	 * @param motionY The y motion
+	 * @param motionZ The z motion
+	 * @return The effect, or null if it was throttled
+	 */
+	public BreakEffect spawnBreakEffect(World world, double x, double y, double z, double motionX, double motionY, double motionZ) {
+		return spawnBreakEffect(world, x, y, z, motionX, motionY, motionZ, Minecraft.getMinecraft().effectRenderer);
+	}
+
+	/**
+	 * Spawns a break effect into the given effect renderer
+	 * @param world The world
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @param motionX The x motion
+	 * @param motionY The y motion
+	 * @param motionZ The z motion
+	 * @param renderer The effect renderer to add the effect to
+	 * @return The effect, or null if it was throttled
+	 */
+	public BreakEffect spawnBreakEffect(World world, double x, double y, double z, double motionX, double motionY, double motionZ, EffectRenderer renderer) {
+		if (!Config.enableParticleThrottling) {
+			BreakEffect effect = new BreakEffect(world, x, y, z, motionX, motionY, motionZ);
+			renderer.addEffect(effect);
+			return effect;
+		}
+		if (world != lastWorld)
+			clear(world);
+		long chunk = getChunkKey(x, z);
+		int[] chunkCount = chunkCounts.get(chunk);
+		if (active.size() >= Config.maxParticlesGlobal || (chunkCount != null && chunkCount[0] >= Config.maxParticlesPerChunk)
+				|| random.nextFloat() >= getSpawnChance(x, y, z)) {
+			suppressed++;
+			Metrics.PARTICLES_SUPPRESSED.increment();
+			return null;
+		}
+		if (chunkCount == null) {
+			chunkCount = new int[1];
+			chunkCounts.put(chunk, chunkCount);
+		}
+		chunkCount[0]++;
+		BreakEffect effect = pool.isEmpty() ? new BreakEffect(world, x, y, z, motionX, motionY, motionZ)
+				: pool.poll().reset(world, x, y, z, motionX, motionY, motionZ);
+		effect.chunkKey = chunk;
+		effect.lastUpdateTick = tick;
+		effect.pooled = true;
+		active.add(effect);
+		renderer.addEffect(effect);
+		return effect;
+	}
+
+	/**
+	 * Gets the number of particles which were not spawned because of a budget or the distance falloff
+	 * @return The number of throttled particles
+	 */
+	public long getSuppressedCount() {
+		return suppressed;
+	}
+
+	/**
+	 * Gets the number of pooled particles currently alive
+	 * @return The number of particles
+	 */
+	public int getActiveCount() {
+		return active.size();
+	}
+
+	int getTick() {
+		return tick;
+	}
+
+	@SubscribeEvent
+	public void onClientTick(TickEvent.ClientTickEvent event) {
+		if (event.phase != TickEvent.Phase.START)
+			return;
+		Minecraft mc = Minecraft.getMinecraft();
+		if (mc.theWorld != lastWorld) {
+			clear(mc.theWorld);
+			return;
+		}
+		if (mc.theWorld == null || mc.isGamePaused())
+			return;
+		tick++;
+		//Dead effects were removed by the effect renderer last tick, so they can safely be reused now
+		for (int i = active.size()-1; i >= 0; i--) {
+			BreakEffect effect = active.get(i);
+			if (effect.isDead || tick-effect.lastUpdateTick > STALE_TICKS) {
+				int last = active.size()-1;
+				active.set(i, active.get(last));
+				active.remove(last);
+				release(effect);
+			}
+		}
+	}
+
+	private void release(BreakEffect effect) {
+		int[] chunkCount = chunkCounts.get(effect.chunkKey);
+		if (chunkCount != null && --chunkCount[0] <= 0)
+			chunkCounts.remove(effect.chunkKey);
+		effect.pooled = false;
+		if (pool.size() < MAX_POOL_SIZE)
+			pool.add(effect);
+	}
+
+	private void clear(World world) {
+		//The effect renderer drops all of its effects when the world changes
+		for (BreakEffect effect : active) {
+			effect.pooled = false;
+			if (pool.size() < MAX_POOL_SIZE)
+				pool.add(effect);
+		}
+		active.clear();
+		chunkCounts.clear();
+		lastWorld = world;
+	}
+
+	private float getSpawnChance(double x, double y, double z) {
+		Minecraft mc = Minecraft.getMinecraft();
+		float chance = mc.gameSettings.particleSetting == 0 ? 1F : (mc.gameSettings.particleSetting == 1 ? .5F : .25F);
+		EntityLivingBase viewer = mc.renderViewEntity;
+		if (viewer == null)
+			return chance;
+		double distance = Math.sqrt(viewer.getDistanceSq(x, y, z));
+		if (distance <= Config.particleFullDetailRange)
+			return chance;
+		if (distance >= Config.particleMaxRange)
+			return 0;
+		return chance*(float) ((Config.particleMaxRange-distance)/(Config.particleMaxRange-Config.particleFullDetailRange));
+	}
+
+	private static long getChunkKey(double x, double z) {
+		return ((long) ((int) Math.floor(x) >> 4) << 32) | (((int) Math.floor(z) >> 4) & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,215 @@
+package com.austinv11.dartcraft2.profiling;
+
+import com.austinv11.dartcraft2.DartCraft2;
+import com.austinv11.dartcraft2.reference.Config;
+import net.minecraft.world.World;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Watches DartCraft 2's calls into API implementations which may come from other mods. Call {@link #begin(Object)}
+ * before calling the implementation and hand what it returned to {@link #end(long)} afterwards.
+ * A monitor thread samples the stack of any call running past the threshold so the slow code itself shows up in the
+ * report, and an implementation which is slow too many times in a row is suspended for a while, callers should skip
+ * it while {@link #isSuspended(Object)} returns true.
+ * Calls can be nested (an implementation calling back into code which is watched too), each thread keeps a small
+ * stack of the calls it has in progress.
+ */
+public class CallWatchdog {
+
+	private static final int SAMPLE_FRAMES = 16;
+	private static final int MAX_DEPTH = 8;
+
+	private static final ThreadLocal<CallStack> stacks = new ThreadLocal<CallStack>() {
+		@Override
+		protected CallStack initialValue() {
+			CallStack stack = new CallStack(Thread.currentThread());
+			watched.add(stack);
+			return stack;
+		}
+	};
+	private static final CopyOnWriteArrayList<CallStack> watched = new CopyOnWriteArrayList<CallStack>();
+	private static final ConcurrentHashMap<Class, Offender> offenders = new ConcurrentHashMap<Class, Offender>();
+
+	private static volatile Thread monitor;
+
+	/**
+	 * Starts watching a call
+	 * @param implementation The object being called
+	 * @return The value to pass to {@link #end(long)}, 0 if the call isn't watched
+	 */
+	public static long begin(Object implementation) {
+		return begin(implementation, null, 0, 0, 0);
+	}
+
+	/**
+	 * Starts watching a call made for a position
+	 * @param implementation The object being called
+	 * @param world The world of the position, or null
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @return The value to pass to {@link #end(long)}, 0 if the call isn't watched
+	 */
+	public static long begin(Object implementation, World world, int x, int y, int z) {
+		if (!Config.enableWatchdog)
+			return 0;
+		CallStack stack = stacks.get();
+		if (monitor == null)
+			startMonitor();
+		//Calls which threw never reached end(), they are dropped when a call further out ends or once the stack is full
+		if (stack.depth == MAX_DEPTH)
+			stack.unwind(0);
+		Call call = stack.calls[stack.depth++];
+		call.type = implementation.getClass();
+		call.dim = world == null ? Integer.MIN_VALUE : world.provider.dimensionId;
+		call.x = x;
+		call.y = y;
+		call.z = z;
+		long start = Math.max(System.nanoTime(), stack.lastStart+1); //Unique per thread, so end() finds the right call
+		stack.lastStart = start;
+		call.start = start;
+		return start;
+	}
+
+	/**
+	 * Finishes watching a call, reporting it if it was slow
+	 * @param start What begin returned
+	 */
+	public static void end(long start) {
+		if (start == 0)
+			return;
+		long elapsed = System.nanoTime()-start;
+		CallStack stack = stacks.get();
+		for (int i = stack.depth-1; i >= 0; i--) {
+			Call call = stack.calls[i];
+			if (call.start == start) {
+				stack.unwind(i); //Along with any calls inside it which threw
+				if (elapsed > Config.watchdogThresholdMillis*1000000L)
+					report(call, elapsed, call.sampledStart == start ? call.sample : null);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Checks whether an implementation has been suspended for being slow
+	 * @param implementation The object which would be called
+	 * @return True if the call should be skipped
+	 */
+	public static boolean isSuspended(Object implementation) {
+		if (offenders.isEmpty())
+			return false;
+		Offender offender = offenders.get(implementation.getClass());
+		return offender != null && offender.suspendedUntil > System.currentTimeMillis();
+	}
+
+	private static void report(Call call, long elapsed, StackTraceElement[] sample) {
+		long now = System.currentTimeMillis();
+		Offender offender = offenders.get(call.type);
+		if (offender == null) {
+			offenders.putIfAbsent(call.type, new Offender());
+			offender = offenders.get(call.type);
+		}
+		int strikes;
+		boolean suspended = false;
+		synchronized (offender) {
+			//Strikes wear off once the implementation has behaved for a whole cooldown
+			if (now-offender.lastStrike > Config.watchdogCooldownSeconds*1000L)
+				offender.strikes = 0;
+			offender.lastStrike = now;
+			strikes = ++offender.strikes;
+			if (strikes >= Config.watchdogStrikes) {
+				offender.strikes = 0;
+				offender.suspendedUntil = now+Config.watchdogCooldownSeconds*1000L;
+				suspended = true;
+			}
+		}
+		String position = call.dim == Integer.MIN_VALUE ? "" : String.format(" at %d:%d,%d,%d", call.dim, call.x, call.y, call.z);
+		DartCraft2.LOGGER.warn(String.format("%s took %.1fms%s (strike %d of %d)", call.type.getName(), elapsed/1E6, position,
+				strikes, Config.watchdogStrikes));
+		if (sample != null) {
+			DartCraft2.LOGGER.warn("Sampled while it was running:");
+			for (int i = 0; i < Math.min(sample.length, SAMPLE_FRAMES); i++)
+				DartCraft2.LOGGER.warn("    at "+sample[i]);
+		}
+		if (suspended)
+			DartCraft2.LOGGER.warn(call.type.getName()+" has been suspended for "+Config.watchdogCooldownSeconds+" seconds");
+	}
+
+	private static synchronized void startMonitor() {
+		if (monitor != null)
+			return;
+		Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				while (true) {
+					long threshold = Math.max(1, Config.watchdogThresholdMillis);
+					try {
+						Thread.sleep(Math.max(1, threshold/4));
+					} catch (InterruptedException e) {
+						return;
+					}
+					long now = System.nanoTime();
+					for (CallStack stack : watched) {
+						for (Call call : stack.calls) {
+							long start = call.start;
+							if (start != 0 && start != call.sampledStart && now-start > threshold*1000000L) {
+								StackTraceElement[] sample = stack.thread.getStackTrace();
+								if (call.start == start) { //Only keep it if the call was still running
+									call.sample = sample;
+									call.sampledStart = start;
+								}
+							}
+						}
+					}
+				}
+			}
+		}, "DartCraft 2 Watchdog");
+		thread.setDaemon(true);
+		thread.start();
+		monitor = thread;
+	}
+
+	/**
+	 * The calls in progress on a thread, innermost last. The calls are reused for every call made on the thread.
+	 */
+	private static class CallStack {
+
+		private final Thread thread;
+		private final Call[] calls = new Call[MAX_DEPTH];
+		private int depth = 0;
+		private long lastStart = 0;
+
+		private CallStack(Thread thread) {
+			this.thread = thread;
+			for (int i = 0; i < MAX_DEPTH; i++)
+				calls[i] = new Call();
+		}
+
+		/**
+		 * Drops the call at the given depth and every call inside it
+		 */
+		private void unwind(int toDepth) {
+			for (int i = toDepth; i < depth; i++)
+				calls[i].start = 0;
+			depth = toDepth;
+		}
+	}
+
+	private static class Call {
+
+		private volatile long start = 0, sampledStart = 0;
+		private volatile StackTraceElement[] sample;
+		private Class type;
+		private int dim, x, y, z;
+	}
+
+	private static class Offender {
+
+		private int strikes = 0;
+		private long lastStrike = 0;
+		private volatile long suspendedUntil = 0;
+	}
+}
@@ -0,0 +1,24 @@
+package com.austinv11.dartcraft2.profiling;
+
+/**
+ * The parts of DartCraft 2 which are timed by the {@link TickProfiler}
+ */
+public enum Subsystem {
+	INFUSER_TICK("Infuser ticks"),
+	AURA_BURST("Aura bursts"),
+	SAPLING_GROWTH("Sapling growth"),
+	LIQUID_FORCE_COLLISION("Liquid force collisions"),
+	LIQUID_FORCE_NETWORK("Liquid force networks"),
+	PACKET_HANDLER("Packet handlers"),
+	RECIPE_MATCHING("Recipe matching");
+	
+	private final String displayName;
+	
+	Subsystem(String displayName) {
+		this.displayName = displayName;
+	}
+	
+	public String getDisplayName() {
+		return displayName;
+	}
+}
@@ -0,0 +1,218 @@
+package com.austinv11.dartcraft2.profiling;
+
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Times DartCraft 2's subsystems while profiling is on. Call {@link #start()} before the work and hand what it
+ * returned to one of the stop methods afterwards. While profiling is off start() is a single volatile read and the
+ * stop methods return straight away.
+ * Each thread records into its own stripe of a few flat atomic arrays, so recording never locks or allocates. Call
+ * times are counted in power of two buckets, which the percentiles are worked out from, and the time spent at each
+ * position is kept in a fixed size table which drops positions once it's full.
+ */
+public class TickProfiler {
+
+	private static final int STRIPES = 8; //Must be a power of two
+	private static final int PAD = 8; //Keeps each stripe's counters on their own cache line
+	private static final int BUCKETS = 64;
+	private static final int POSITIONS = 4096; //Must be a power of two
+	private static final int PROBES = 8;
+	private static final int SUBSYSTEMS = Subsystem.values().length;
+
+	private static final AtomicLongArray calls = new AtomicLongArray(SUBSYSTEMS*STRIPES*PAD);
+	private static final AtomicLongArray nanos = new AtomicLongArray(SUBSYSTEMS*STRIPES*PAD);
+	private static final AtomicLongArray histogram = new AtomicLongArray(SUBSYSTEMS*STRIPES*BUCKETS);
+	private static final AtomicLongArray positionKeys = new AtomicLongArray(POSITIONS);
+	private static final AtomicLongArray positionNanos = new AtomicLongArray(POSITIONS);
+	private static final AtomicIntegerArray positionDims = new AtomicIntegerArray(POSITIONS);
+	private static final AtomicLong droppedPositions = new AtomicLong();
+
+	private static volatile boolean enabled = false;
+	private static long startedAt = 0, stoppedAt = 0;
+
+	/**
+	 * Starts timing a piece of work
+	 * @return The value to pass to the stop method, 0 if profiling is off
+	 */
+	public static long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Finishes timing a piece of work
+	 * @param subsystem The subsystem the work belongs to
+	 * @param start What {@link #start()} returned
+	 */
+	public static void stop(Subsystem subsystem, long start) {
+		if (start != 0)
+			record(subsystem, System.nanoTime()-start);
+	}
+
+	/**
+	 * Finishes timing a piece of work done at a position
+	 * @param subsystem The subsystem the work belongs to
+	 * @param start What {@link #start()} returned
+	 * @param world The world of the position
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 */
+	public static void stop(Subsystem subsystem, long start, World world, int x, int y, int z) {
+		if (start == 0)
+			return;
+		long elapsed = System.nanoTime()-start;
+		record(subsystem, elapsed);
+		recordPosition(subsystem, world.provider.dimensionId, x, y, z, elapsed);
+	}
+
+	/**
+	 * Clears everything recorded so far and starts profiling
+	 */
+	public static synchronized void enable() {
+		enabled = false;
+		for (int i = 0; i < calls.length(); i++) {
+			calls.set(i, 0);
+			nanos.set(i, 0);
+		}
+		for (int i = 0; i < histogram.length(); i++)
+			histogram.set(i, 0);
+		for (int i = 0; i < POSITIONS; i++) {
+			positionKeys.set(i, 0);
+			positionNanos.set(i, 0);
+		}
+		droppedPositions.set(0);
+		startedAt = System.nanoTime();
+		stoppedAt = 0;
+		enabled = true;
+	}
+
+	/**
+	 * Stops profiling, what was recorded is kept until profiling is started again
+	 */
+	public static synchronized void disable() {
+		if (enabled) {
+			enabled = false;
+			stoppedAt = System.nanoTime();
+		}
+	}
+
+	/**
+	 * @return Whether profiling is on
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Summarizes what has been recorded since profiling was last started
+	 * @param topPositions The number of positions to list
+	 * @return The lines of the report
+	 */
+	public static synchronized List<String> dump(int topPositions) {
+		List<String> lines = new ArrayList<String>();
+		if (startedAt == 0) {
+			lines.add("Profiling hasn't been started");
+			return lines;
+		}
+		long wallNanos = Math.max(1, (enabled ? System.nanoTime() : stoppedAt)-startedAt);
+		lines.add(String.format("DartCraft 2 profile over %.1fs%s:", wallNanos/1E9, enabled ? " (still running)" : ""));
+		for (Subsystem subsystem : Subsystem.values()) {
+			long count = 0, total = 0;
+			long[] buckets = new long[BUCKETS];
+			for (int stripe = 0; stripe < STRIPES; stripe++) {
+				int slot = subsystem.ordinal()*STRIPES+stripe;
+				count += calls.get(slot*PAD);
+				total += nanos.get(slot*PAD);
+				for (int bucket = 0; bucket < BUCKETS; bucket++)
+					buckets[bucket] += histogram.get(slot*BUCKETS+bucket);
+			}
+			if (count > 0)
+				lines.add(String.format("%s: %d calls, %.2fms (%.3f%% of wall time), p50 < %s, p99 < %s", subsystem.getDisplayName(),
+						count, total/1E6, 100D*total/wallNanos, formatNanos(getPercentile(buckets, count, .5)),
+						formatNanos(getPercentile(buckets, count, .99))));
+		}
+		long[][] positions = new long[POSITIONS][];
+		int found = 0;
+		for (int i = 0; i < POSITIONS; i++)
+			if (positionKeys.get(i) != 0)
+				positions[found++] = new long[]{positionNanos.get(i), positionKeys.get(i), positionDims.get(i)};
+		Arrays.sort(positions, 0, found, new Comparator<long[]>() {
+			@Override
+			public int compare(long[] a, long[] b) {
+				return a[0] < b[0] ? 1 : (a[0] > b[0] ? -1 : 0);
+			}
+		});
+		if (found > 0)
+			lines.add("Slowest positions:");
+		for (int i = 0; i < Math.min(found, topPositions); i++) {
+			long key = positions[i][1];
+			lines.add(String.format("  %s at %d:%d,%d,%d: %.2fms", Subsystem.values()[(int) (key >>> 60)-1].getDisplayName(),
+					positions[i][2], (int) (key << 4 >> 38), (int) (key & 0xFF), (int) (key << 30 >> 38), positions[i][0]/1E6));
+		}
+		if (droppedPositions.get() > 0)
+			lines.add(droppedPositions.get()+" calls were made at positions which didn't fit in the position table");
+		return lines;
+	}
+
+	private static void record(Subsystem subsystem, long elapsed) {
+		int slot = subsystem.ordinal()*STRIPES+((int) Thread.currentThread().getId() & (STRIPES-1));
+		calls.incrementAndGet(slot*PAD);
+		nanos.addAndGet(slot*PAD, elapsed);
+		histogram.incrementAndGet(slot*BUCKETS+(elapsed <= 0 ? 0 : 63-Long.numberOfLeadingZeros(elapsed)));
+	}
+
+	/**
+	 * Adds time to a position's slot, claiming a free one if it doesn't have one yet. Gives up after a few probes.
+	 */
+	private static void recordPosition(Subsystem subsystem, int dim, int x, int y, int z, long elapsed) {
+		//Subsystem ordinal+1 in the top 4 bits (so a key is never 0), then x and z as 26 bits each and y as 8
+		long key = (long) (subsystem.ordinal()+1) << 60 | ((long) x & 0x3FFFFFFL) << 34 | ((long) z & 0x3FFFFFFL) << 8 | (y & 0xFF);
+		int hash = (int) (((key^dim)*0x9E3779B97F4A7C15L) >>> 40);
+		for (int i = 0; i < PROBES; i++) {
+			int slot = (hash+i) & (POSITIONS-1);
+			long current = positionKeys.get(slot);
+			if (current == 0) {
+				if (positionKeys.compareAndSet(slot, 0, key)) {
+					positionDims.set(slot, dim);
+					positionNanos.addAndGet(slot, elapsed);
+					return;
+				}
+				current = positionKeys.get(slot);
+			}
+			if (current == key && positionDims.get(slot) == dim) {
+				positionNanos.addAndGet(slot, elapsed);
+				return;
+			}
+		}
+		droppedPositions.incrementAndGet();
+	}
+
+	/**
+	 * Gets the upper bound of the bucket the given fraction of calls falls into
+	 */
+	private static long getPercentile(long[] buckets, long count, double fraction) {
+		long target = (long) Math.ceil(count*fraction), seen = 0;
+		for (int bucket = 0; bucket < BUCKETS; bucket++) {
+			seen += buckets[bucket];
+			if (seen >= target)
+				return bucket >= 62 ? Long.MAX_VALUE : 1L << (bucket+1);
+		}
+		return Long.MAX_VALUE;
+	}
+
+	private static String formatNanos(long nanos) {
+		if (nanos < 1000)
+			return nanos+"ns";
+		if (nanos < 1000000)
+			return String.format("%.1fus", nanos/1E3);
+		return String.format("%.2fms", nanos/1E6);
+	}
+}
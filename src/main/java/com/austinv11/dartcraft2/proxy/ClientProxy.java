@@ -6,7 +6,7 @@ import com.austinv11.dartcraft2.client.model.ItemRenderInfuser;
 import com.austinv11.dartcraft2.client.model.RenderInfuser;
 import com.austinv11.dartcraft2.events.handlers.KeyInputHandler;
 import com.austinv11.dartcraft2.init.ModBlocks;
-import com.austinv11.dartcraft2.particles.BreakEffect;
+import com.austinv11.dartcraft2.particles.ParticleManager;
 import com.austinv11.dartcraft2.reference.Reference;
 import com.austinv11.dartcraft2.tileentities.TileEntityInfuser;
 import cpw.mods.fml.client.registry.ClientRegistry;
@@ -42,14 +42,15 @@ public class ClientProxy extends CommonProxy implements IconManager.IIconNeeded
 	public static void addBlockEffects(World world, double x, double y, double z, EffectRenderer renderer, Random random) {
 		if (world.blockExists((int)x, (int)y, (int)z))
 			for (int i = 0; i < 7; i++)
-				renderer.addEffect(new BreakEffect(world, x+.5+(random.nextGaussian()/3), y+.5+(random.nextGaussian()/3), 
-						z+.5+(random.nextGaussian()/3), random.nextGaussian(), random.nextGaussian(), random.nextGaussian()));
+				ParticleManager.INSTANCE.spawnBreakEffect(world, x+.5+(random.nextGaussian()/3), y+.5+(random.nextGaussian()/3),
+						z+.5+(random.nextGaussian()/3), random.nextGaussian(), random.nextGaussian(), random.nextGaussian(), renderer);
 	}
 
 	@Override
 	public void registerClientEvents() {
 		KeyBindings.init();
 		FMLCommonHandler.instance().bus().register(new KeyInputHandler());
+		FMLCommonHandler.instance().bus().register(ParticleManager.INSTANCE);
 	}
 	
 	@Override
@@ -1,15 +1,22 @@
 package com.austinv11.dartcraft2.proxy;
 
 import com.austinv11.dartcraft2.DartCraft2;
+import com.austinv11.dartcraft2.blocks.SaplingGrowthTable;
 import com.austinv11.dartcraft2.events.handlers.BucketHandler;
+import com.austinv11.dartcraft2.events.handlers.ConfigHandler;
 import com.austinv11.dartcraft2.events.handlers.TransmutationHandler;
+import com.austinv11.dartcraft2.fluids.LiquidForceNetworkManager;
 import com.austinv11.dartcraft2.init.ModBlocks;
 import com.austinv11.dartcraft2.init.ModItems;
 import com.austinv11.dartcraft2.network.ClipboardButtonPressPacket;
 import com.austinv11.dartcraft2.network.DartCraftEffectPacket;
 import com.austinv11.dartcraft2.network.OpenGuiContainerPacket;
+import com.austinv11.dartcraft2.network.PacketRateLimiter;
+import com.austinv11.dartcraft2.network.ServerTaskQueue;
 import com.austinv11.dartcraft2.network.TransmutePacket;
+import com.austinv11.dartcraft2.tileentities.TileEntityForcePipe;
 import com.austinv11.dartcraft2.tileentities.TileEntityForceSapling;
+import com.austinv11.dartcraft2.tileentities.TileEntityForceTank;
 import com.austinv11.dartcraft2.tileentities.TileEntityInfuser;
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.registry.GameRegistry;
@@ -28,6 +35,12 @@ public class CommonProxy {
 		MinecraftForge.EVENT_BUS.register(new BucketHandler());
 		MinecraftForge.EVENT_BUS.register(new TransmutationHandler());
 		FMLCommonHandler.instance().bus().register(new TransmutationHandler());
+		FMLCommonHandler.instance().bus().register(new ConfigHandler());
+		FMLCommonHandler.instance().bus().register(ServerTaskQueue.INSTANCE);
+		FMLCommonHandler.instance().bus().register(PacketRateLimiter.INSTANCE);
+		FMLCommonHandler.instance().bus().register(LiquidForceNetworkManager.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(LiquidForceNetworkManager.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(SaplingGrowthTable.INSTANCE);
 	}
 	
 	public void registerOreDictEntries() {
@@ -61,6 +74,8 @@ public class CommonProxy {
 	public void registerTileEntities() {
 		GameRegistry.registerTileEntity(TileEntityForceSapling.class, TileEntityForceSapling.publicName);
 		GameRegistry.registerTileEntity(TileEntityInfuser.class, TileEntityInfuser.publicName);
+		GameRegistry.registerTileEntity(TileEntityForceTank.class, TileEntityForceTank.publicName);
+		GameRegistry.registerTileEntity(TileEntityForcePipe.class, TileEntityForcePipe.publicName);
 	}
 	
 	public void registerPackets() {
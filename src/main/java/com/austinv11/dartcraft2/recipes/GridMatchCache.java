@@ -0,0 +1,136 @@
+package com.austinv11.dartcraft2.recipes;
+
+import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Remembers the result a recipe computed for each crafting grid it matched. Vanilla asks every recipe whether it
+ * matches and then asks the matching one for its result, usually for the same unchanged grid, so this saves the
+ * recipe from working everything out again.
+ * Only matches are remembered, grids which don't match are answered with {@link #NO_MATCH} without copying anything.
+ * Entries are kept per grid (grids don't override equals, so they're compared by identity) and are dropped along with
+ * the grid. The entries themselves are immutable, so the client and integrated server threads can share the cache.
+ */
+public class GridMatchCache {
+
+	/**
+	 * The entry for any grid which doesn't match the recipe
+	 */
+	public static final Entry NO_MATCH = new Entry();
+
+	private final Map<InventoryCrafting, Entry> entries = Collections.synchronizedMap(new WeakHashMap<InventoryCrafting, Entry>());
+
+	/**
+	 * Gets the cached entry if the grid is unchanged since it was stored
+	 * @param grid The crafting grid
+	 * @return The entry, or null if there isn't one for this grid
+	 */
+	public Entry get(InventoryCrafting grid) {
+		Entry cached = entries.get(grid);
+		return cached != null && cached.isFor(grid) ? cached : null;
+	}
+
+	/**
+	 * Stores the result for the current contents of the grid
+	 * @param grid The crafting grid
+	 * @param result The result, or null if the grid doesn't match the recipe
+	 * @return The new entry, {@link #NO_MATCH} if there is no result
+	 */
+	public Entry put(InventoryCrafting grid, ItemStack result) {
+		if (result == null) {
+			entries.remove(grid);
+			return NO_MATCH;
+		}
+		Entry newEntry = new Entry(grid, result);
+		entries.put(grid, newEntry);
+		return newEntry;
+	}
+
+	/**
+	 * Finds the first stack in a grid with an item of the given type, a cheap check for whether a recipe can match at all
+	 * @param grid The crafting grid
+	 * @param type The item type
+	 * @return The stack, or null if the grid doesn't have one
+	 */
+	public static ItemStack find(InventoryCrafting grid, Class<?> type) {
+		for (int i = 0; i < grid.getSizeInventory(); i++) {
+			ItemStack stack = grid.getStackInSlot(i);
+			if (stack != null && type.isInstance(stack.getItem()))
+				return stack;
+		}
+		return null;
+	}
+
+	public static class Entry {
+
+		private final Item[] items;
+		private final int[] metas;
+		private final int[] sizes;
+		private final NBTTagCompound[] tags;
+		private final ItemStack result;
+
+		private Entry() {
+			items = new Item[0];
+			metas = new int[0];
+			sizes = new int[0];
+			tags = new NBTTagCompound[0];
+			result = null;
+		}
+
+		private Entry(InventoryCrafting grid, ItemStack result) {
+			int size = grid.getSizeInventory();
+			items = new Item[size];
+			metas = new int[size];
+			sizes = new int[size];
+			tags = new NBTTagCompound[size];
+			for (int i = 0; i < size; i++) {
+				ItemStack stack = grid.getStackInSlot(i);
+				if (stack != null) {
+					items[i] = stack.getItem();
+					metas[i] = stack.getItemDamage();
+					sizes[i] = stack.stackSize;
+					tags[i] = stack.stackTagCompound == null ? null : (NBTTagCompound) stack.stackTagCompound.copy();
+				}
+			}
+			this.result = result.copy();
+		}
+
+		/**
+		 * Checks whether the grid still holds what it did when this entry was made, bailing on the first difference
+		 */
+		private boolean isFor(InventoryCrafting grid) {
+			if (grid.getSizeInventory() != items.length)
+				return false;
+			for (int i = 0; i < items.length; i++) {
+				ItemStack stack = grid.getStackInSlot(i);
+				if (stack == null) {
+					if (items[i] != null)
+						return false;
+				} else if (stack.getItem() != items[i] || stack.getItemDamage() != metas[i] || stack.stackSize != sizes[i]
+						|| (stack.stackTagCompound == null ? tags[i] != null : !stack.stackTagCompound.equals(tags[i])))
+					return false;
+			}
+			return true;
+		}
+
+		/**
+		 * @return Whether the grid matched the recipe
+		 */
+		public boolean matches() {
+			return result != null;
+		}
+
+		/**
+		 * @return A copy of the result, or null if the grid didn't match
+		 */
+		public ItemStack getResult() {
+			return result == null ? null : result.copy();
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package com.austinv11.dartcraft2.recipes;
 
 import com.austinv11.dartcraft2.items.ItemForcePack;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
 import net.minecraft.block.BlockColored;
 import net.minecraft.entity.passive.EntitySheep;
 import net.minecraft.init.Items;
@@ -9,41 +11,37 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.world.World;
 
-import java.util.ArrayList;
-
 public class RecipeDyePack implements IRecipe {
-    @Override
-    public boolean matches(InventoryCrafting crafting, World world) {
-        ItemStack itemstack = null;
-        ArrayList arraylist = new ArrayList();
-
-        for (int i = 0; i < crafting.getSizeInventory(); ++i) {
-            ItemStack itemstack1 = crafting.getStackInSlot(i);
-
-            if (itemstack1 != null) {
-                if (itemstack1.getItem() instanceof ItemForcePack) {
-                    ItemForcePack forcePack = (ItemForcePack) itemstack1.getItem();
-
-                    if (itemstack != null) {
-                        return false;
-                    }
-
-                    itemstack = itemstack1;
-                } else {
-                    if (itemstack1.getItem() != Items.dye) {
-                        return false;
-                    }
 
-                    arraylist.add(itemstack1);
-                }
-            }
-        }
+    private final GridMatchCache cache = new GridMatchCache();
 
-        return itemstack != null && !arraylist.isEmpty();
+    @Override
+    public boolean matches(InventoryCrafting crafting, World world) {
+        if (world.isRemote) //The client matches its crafting grids too, only the server is profiled
+            return lookup(crafting).matches();
+        long start = TickProfiler.start();
+        GridMatchCache.Entry entry = lookup(crafting);
+        TickProfiler.stop(Subsystem.RECIPE_MATCHING, start);
+        return entry.matches();
     }
 
     @Override
     public ItemStack getCraftingResult(InventoryCrafting crafting) {
+        //Not profiled, there's no world to tell the client and server apart and the grid was just matched anyway
+        return lookup(crafting).getResult();
+    }
+
+    private GridMatchCache.Entry lookup(InventoryCrafting crafting) {
+        if (GridMatchCache.find(crafting, ItemForcePack.class) == null) //Most grids don't have a pack in them at all
+            return GridMatchCache.NO_MATCH;
+        GridMatchCache.Entry entry = cache.get(crafting);
+        return entry == null ? cache.put(crafting, blend(crafting)) : entry;
+    }
+
+    /**
+     * Blends the dyes into the pack's colour, returns null as soon as a slot can't be part of the recipe
+     */
+    private ItemStack blend(InventoryCrafting crafting) {
         ItemStack itemstack = null;
         int[] aint = new int[3];
         int i = 0;
@@ -54,6 +52,7 @@ public class RecipeDyePack implements IRecipe {
         float f;
         float f1;
         int l1;
+        boolean hasDye = false;
 
         for (k = 0; k < crafting.getSizeInventory(); ++k) {
             ItemStack itemstack1 = crafting.getStackInSlot(k);
@@ -85,6 +84,7 @@ public class RecipeDyePack implements IRecipe {
                         return null;
                     }
 
+                    hasDye = true;
                     float[] afloat = EntitySheep.fleeceColorTable[BlockColored.func_150032_b(itemstack1.getItemDamage())];
                     int j1 = (int) (afloat[0] * 255.0F);
                     int k1 = (int) (afloat[1] * 255.0F);
@@ -98,7 +98,7 @@ public class RecipeDyePack implements IRecipe {
             }
         }
 
-        if (forcePack == null) {
+        if (forcePack == null || !hasDye) {
             return null;
         } else {
             k = aint[0] / j;
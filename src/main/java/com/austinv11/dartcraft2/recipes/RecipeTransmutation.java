@@ -1,9 +1,11 @@
 package com.austinv11.dartcraft2.recipes;
 
-import com.austinv11.dartcraft2.api.DartCraft2API;
-import com.austinv11.dartcraft2.api.FailedAPIRequest;
+import com.austinv11.dartcraft2.DartCraft2;
 import com.austinv11.dartcraft2.api.ITransmutationItem;
 import com.austinv11.dartcraft2.api.ITransmutationRecipeHandler;
+import com.austinv11.dartcraft2.profiling.CallWatchdog;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.IRecipe;
@@ -11,84 +13,68 @@ import net.minecraft.world.World;
 
 public class RecipeTransmutation implements IRecipe {
 	
+	private final GridMatchCache cache = new GridMatchCache();
+	
 	@Override
 	public boolean matches(InventoryCrafting craftingInventory, World world) {
-		int transmutationItemSlot = -1;
-		int transmuted = -1;
-		for (int i = 0; i < craftingInventory.getSizeInventory(); i++) {
-			if (craftingInventory.getStackInSlot(i) != null) {
-				if (craftingInventory.getStackInSlot(i).getItem() instanceof ITransmutationItem) {
-					if (transmutationItemSlot != -1)
-						return false;
-					transmutationItemSlot = i;
-				} else {
-					if (transmuted != -1)
-						return false;
-					ITransmutationRecipeHandler.ItemInfo toTransmute = null;
-					try {
-						toTransmute = DartCraft2API.getTransmutationRecipeHandler().getAvailableTransmutation(
-								craftingInventory.getStackInSlot(i).getItem(), craftingInventory.getStackInSlot(i).getItemDamage());
-					} catch (FailedAPIRequest failedAPIRequest) {
-//						failedAPIRequest.printStackTrace();
-					}
-					if (toTransmute == null || toTransmute.item == null)
-						return false;
-					transmuted = i;
-				}
-			}
-		}
-		if (transmutationItemSlot != -1 && transmuted != -1)
-			try {
-				ITransmutationRecipeHandler.ItemInfo transmute = new ITransmutationRecipeHandler.ItemInfo(craftingInventory.getStackInSlot(transmuted).getItem(),
-						craftingInventory.getStackInSlot(transmuted).getItemDamage());
-				ITransmutationRecipeHandler.ItemInfo toTransmute = DartCraft2API.getTransmutationRecipeHandler().getAvailableTransmutation(
-						transmute.item, transmute.meta);
-				return ((ITransmutationItem)craftingInventory.getStackInSlot(transmutationItemSlot).getItem()).canTransmute(
-						craftingInventory.getStackInSlot(transmutationItemSlot), transmute.item, transmute.meta, toTransmute.item, toTransmute.meta);
-			} catch (FailedAPIRequest failedAPIRequest) {
-	//			failedAPIRequest.printStackTrace();
-			}
-		return false;
+		if (world.isRemote) //The client matches its crafting grids too, only the server is profiled
+			return lookup(craftingInventory).matches();
+		long start = TickProfiler.start();
+		GridMatchCache.Entry entry = lookup(craftingInventory);
+		TickProfiler.stop(Subsystem.RECIPE_MATCHING, start);
+		return entry.matches();
 	}
 	
 	@Override
 	public ItemStack getCraftingResult(InventoryCrafting craftingInventory) {
-		int transmutationItemSlot = -1;
-		int transmuted = -1;
+		//Not profiled, there's no world to tell the client and server apart and the grid was just matched anyway
+		return lookup(craftingInventory).getResult();
+	}
+	
+	private GridMatchCache.Entry lookup(InventoryCrafting craftingInventory) {
+		ItemStack rod = GridMatchCache.find(craftingInventory, ITransmutationItem.class);
+		//Most grids don't have a rod in them at all, and a suspended rod mustn't match through a result cached earlier
+		if (rod == null || CallWatchdog.isSuspended(rod.getItem()))
+			return GridMatchCache.NO_MATCH;
+		GridMatchCache.Entry entry = cache.get(craftingInventory);
+		return entry == null ? cache.put(craftingInventory, findResult(craftingInventory)) : entry;
+	}
+	
+	/**
+	 * Works out the result of the grid in a single pass, giving up on the first slot which can't be part of a transmutation
+	 */
+	private ItemStack findResult(InventoryCrafting craftingInventory) {
+		ItemStack transmutationItem = null;
+		ItemStack transmuted = null;
+		ITransmutationRecipeHandler.ItemInfo toTransmute = null;
 		for (int i = 0; i < craftingInventory.getSizeInventory(); i++) {
-			if (craftingInventory.getStackInSlot(i) != null) {
-				if (craftingInventory.getStackInSlot(i).getItem() instanceof ITransmutationItem) {
-					if (transmutationItemSlot != -1)
-						return null;
-					transmutationItemSlot = i;
-				} else {
-					if (transmuted != -1)
-						return null;
-					ITransmutationRecipeHandler.ItemInfo toTransmute = null;
-					try {
-						toTransmute = DartCraft2API.getTransmutationRecipeHandler().getAvailableTransmutation(
-								craftingInventory.getStackInSlot(i).getItem(), craftingInventory.getStackInSlot(i).getItemDamage());
-					} catch (FailedAPIRequest failedAPIRequest) {
-//						failedAPIRequest.printStackTrace();
-					}
-					if (toTransmute == null || toTransmute.item == null)
-						return null;
-					transmuted = i;
-				}
+			ItemStack stack = craftingInventory.getStackInSlot(i);
+			if (stack == null)
+				continue;
+			if (stack.getItem() instanceof ITransmutationItem) {
+				if (transmutationItem != null)
+					return null;
+				transmutationItem = stack;
+			} else {
+				if (transmuted != null)
+					return null;
+				toTransmute = DartCraft2.TRANSMUTATION_HANDLER.getAvailableTransmutation(stack.getItem(), stack.getItemDamage());
+				if (toTransmute == null || toTransmute.item == null)
+					return null;
+				transmuted = stack;
 			}
 		}
-		if (transmutationItemSlot != -1 && transmuted != -1)
-			try {
-				craftingInventory.getStackInSlot(transmutationItemSlot).setItemDamage(craftingInventory.getStackInSlot(transmutationItemSlot).getItemDamage() == 0 ? 0 : craftingInventory.getStackInSlot(transmutationItemSlot).getItemDamage());
-				ITransmutationRecipeHandler.ItemInfo transmute = new ITransmutationRecipeHandler.ItemInfo(craftingInventory.getStackInSlot(transmuted).getItem(),
-						craftingInventory.getStackInSlot(transmuted).getItemDamage());
-				ITransmutationRecipeHandler.ItemInfo toTransmute = DartCraft2API.getTransmutationRecipeHandler().getAvailableTransmutation(
-						transmute.item, transmute.meta);
-				return new ItemStack(toTransmute.item, 1, toTransmute.meta);
-			} catch (FailedAPIRequest failedAPIRequest) {
-//				failedAPIRequest.printStackTrace();
-			}
-		return null;
+		if (transmutationItem == null || transmuted == null)
+			return null;
+		if (CallWatchdog.isSuspended(transmutationItem.getItem()))
+			return null;
+		long call = CallWatchdog.begin(transmutationItem.getItem());
+		boolean canTransmute = ((ITransmutationItem) transmutationItem.getItem()).canTransmute(transmutationItem, transmuted.getItem(),
+				transmuted.getItemDamage(), toTransmute.item, toTransmute.meta);
+		CallWatchdog.end(call);
+		if (!canTransmute)
+			return null;
+		return new ItemStack(toTransmute.item, 1, toTransmute.meta);
 	}
 	
 	@Override
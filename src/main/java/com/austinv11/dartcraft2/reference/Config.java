@@ -8,6 +8,18 @@ public class Config {
 	@Description(category = "Liquid Force", comment = "When enabled, liquid force will apply effects to entities submerged in it")
 	public static boolean enableExtraLiquidForceEffects = true;
 	
+	@Description(category = "Liquid Force", comment = "The minimum number of ticks between liquid force effects on the same entity")
+	public static int liquidForceEffectCooldown = 20;
+	
+	@Description(category = "Liquid Force", comment = "The most liquid force (in mB) force pipes and tanks can move into a single block each tick")
+	public static int liquidForceTransferRate = 4000;
+	
+	@Description(category = "Liquid Force", comment = "The amount of liquid force (in mB) each force pipe adds to its network's buffer")
+	public static int forcePipeCapacity = 1000;
+	
+	@Description(category = "Liquid Force", comment = "The amount of liquid force (in mB) a force tank can hold")
+	public static int forceTankCapacity = 32000;
+	
 	@Description(category = "Aura", comment = "The range at which aura can be passively drained from")
 	public static int passiveAuraEmissionRange = 16;
 	
@@ -61,4 +73,61 @@ public class Config {
 	
 	@Description(category = "Infusion", comment = "Experience required for tier 7")
 	public static int experienceForTier7 = 1;
+	
+	@Description(category = "Infusion", comment = "Experience given to the upgrade tome in an infuser when an infusion completes")
+	public static int experiencePerInfusion = 1;
+	
+	@Description(category = "Particles", comment = "When enabled, DartCraft 2 particles are pooled and limited by the budgets below")
+	public static boolean enableParticleThrottling = true;
+	
+	@Description(category = "Particles", comment = "The maximum amount of DartCraft 2 particles alive at once")
+	public static int maxParticlesGlobal = 800;
+	
+	@Description(category = "Particles", comment = "The maximum amount of DartCraft 2 particles alive at once in a single chunk")
+	public static int maxParticlesPerChunk = 48;
+	
+	@Description(category = "Particles", comment = "Particles closer than this many blocks to the camera are always spawned")
+	public static int particleFullDetailRange = 16;
+	
+	@Description(category = "Particles", comment = "Particles further than this many blocks from the camera are never spawned, the spawn chance falls off linearly before this")
+	public static int particleMaxRange = 48;
+	
+	@Description(category = "Rendering", comment = "Infusers further than this many blocks from the camera are not rendered")
+	public static int infuserRenderDistance = 48;
+	
+	@Description(category = "Rendering", comment = "The infuser's book is only rendered within this many blocks of the camera")
+	public static int infuserBookRenderDistance = 16;
+	
+	@Description(category = "Metrics", comment = "When enabled, DartCraft 2's runtime counters are written to a file while a server is running")
+	public static boolean enableMetrics = false;
+	
+	@Description(category = "Metrics", comment = "The file the metrics are written to, relative to the server's directory")
+	public static String metricsFile = "dartcraft2-metrics.log";
+	
+	@Description(category = "Metrics", comment = "Either json (one line appended per window) or prometheus (the file is replaced with the Prometheus text format)")
+	public static String metricsFormat = "json";
+	
+	@Description(category = "Metrics", comment = "The length of each metrics window in seconds")
+	public static int metricsWindowSeconds = 60;
+	
+	@Description(category = "Watchdog", comment = "When enabled, DartCraft 2's calls into other mods' aura absorbers and transmutation items are timed")
+	public static boolean enableWatchdog = true;
+	
+	@Description(category = "Watchdog", comment = "Calls taking longer than this many milliseconds are reported")
+	public static int watchdogThresholdMillis = 50;
+	
+	@Description(category = "Watchdog", comment = "The amount of slow calls after which an implementation is suspended")
+	public static int watchdogStrikes = 3;
+	
+	@Description(category = "Watchdog", comment = "How long a slow implementation is suspended for in seconds, strikes older than this are forgotten")
+	public static int watchdogCooldownSeconds = 300;
+	
+	@Description(category = "Network", comment = "The maximum amount of packet actions run on the server thread per tick, the rest are run on the following ticks")
+	public static int maxServerTasksPerTick = 256;
+	
+	@Description(category = "Network", comment = "How many transmute or clipboard requests per second each player can make, of each kind")
+	public static int packetsPerSecond = 10;
+	
+	@Description(category = "Network", comment = "How many requests of each kind a player can make at once before being limited to the rate above")
+	public static int packetBurst = 20;
 }
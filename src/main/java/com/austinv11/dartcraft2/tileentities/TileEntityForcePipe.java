@@ -0,0 +1,109 @@
+package com.austinv11.dartcraft2.tileentities;
+
+import com.austinv11.dartcraft2.fluids.LiquidForceNetwork;
+import com.austinv11.dartcraft2.fluids.LiquidForceNetworkManager;
+import com.austinv11.dartcraft2.init.ModFluids;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTankInfo;
+import net.minecraftforge.fluids.IFluidHandler;
+
+/**
+ * A force pipe, all of the work is done by its {@link LiquidForceNetwork} so pipes never tick
+ */
+public class TileEntityForcePipe extends TileEntity implements IFluidHandler {
+
+	public static String publicName = "forcePipe";
+
+	public LiquidForceNetwork network;
+	public int storedAmount = 0; //Liquid force held while not part of a network
+
+	@Override
+	public boolean canUpdate() {
+		return false;
+	}
+
+	@Override
+	public void validate() {
+		super.validate();
+		if (!worldObj.isRemote)
+			LiquidForceNetworkManager.INSTANCE.onPipeAdded(this);
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		if (!worldObj.isRemote)
+			LiquidForceNetworkManager.INSTANCE.onPipeRemoved(this);
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		if (!worldObj.isRemote)
+			LiquidForceNetworkManager.INSTANCE.onPipeRemoved(this);
+	}
+
+	/**
+	 * Called when a neighbouring block changes, so the network can look for blocks to fill again
+	 */
+	public void onNeighborChanged() {
+		if (network != null)
+			network.markAcceptorsDirty();
+	}
+
+	@Override
+	public void writeToNBT(NBTTagCompound nbtTagCompound) {
+		super.writeToNBT(nbtTagCompound);
+		nbtTagCompound.setInteger("liquidForce", network == null ? storedAmount : network.getShare(this));
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound nbtTagCompound) {
+		super.readFromNBT(nbtTagCompound);
+		storedAmount = nbtTagCompound.getInteger("liquidForce");
+	}
+
+	@Override
+	public int fill(ForgeDirection from, FluidStack resource, boolean doFill) {
+		if (network == null || resource == null || resource.getFluid() != ModFluids.liquidForce)
+			return 0;
+		return network.fill(resource.amount, doFill);
+	}
+
+	@Override
+	public FluidStack drain(ForgeDirection from, FluidStack resource, boolean doDrain) {
+		if (resource == null || resource.getFluid() != ModFluids.liquidForce)
+			return null;
+		return drain(from, resource.amount, doDrain);
+	}
+
+	@Override
+	public FluidStack drain(ForgeDirection from, int maxDrain, boolean doDrain) {
+		if (network == null)
+			return null;
+		int drained = network.drain(maxDrain, doDrain);
+		return drained > 0 ? new FluidStack(ModFluids.liquidForce, drained) : null;
+	}
+
+	@Override
+	public boolean canFill(ForgeDirection from, Fluid fluid) {
+		return fluid == ModFluids.liquidForce;
+	}
+
+	@Override
+	public boolean canDrain(ForgeDirection from, Fluid fluid) {
+		return fluid == ModFluids.liquidForce;
+	}
+
+	@Override
+	public FluidTankInfo[] getTankInfo(ForgeDirection from) {
+		if (network == null)
+			return new FluidTankInfo[]{new FluidTankInfo(null, 0)};
+		FluidStack contents = network.getAmount() > 0 ? new FluidStack(ModFluids.liquidForce, network.getAmount()) : null;
+		return new FluidTankInfo[]{new FluidTankInfo(contents, network.getCapacity())};
+	}
+}
@@ -3,9 +3,14 @@ package com.austinv11.dartcraft2.tileentities;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 
+/**
+ * Force saplings used to store their growth cycle in this, it's now kept in the
+ * {@link com.austinv11.dartcraft2.blocks.SaplingGrowthTable} which reads the cycle out of old saves. This stays
+ * registered so old saves load without warnings
+ */
+@Deprecated
 public class TileEntityForceSapling extends TileEntity {
 	
-	public static final int MAX_CYCLES = 3;
 	public static String publicName = "forceSapling";
 	public int currentCycle = 0;
 	
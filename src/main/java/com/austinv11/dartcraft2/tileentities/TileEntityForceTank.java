@@ -0,0 +1,82 @@
+package com.austinv11.dartcraft2.tileentities;
+
+import com.austinv11.dartcraft2.init.ModFluids;
+import com.austinv11.dartcraft2.reference.Config;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.*;
+
+public class TileEntityForceTank extends TileEntity implements IFluidHandler {
+
+	public static String publicName = "forceTank";
+	public FluidTank liquidForceTank = new FluidTank(Config.forceTankCapacity);
+
+	@Override
+	public void updateEntity() {
+		super.updateEntity();
+		if (worldObj.isRemote || liquidForceTank.getFluidAmount() <= 0 || !worldObj.blockExists(xCoord, yCoord-1, zCoord))
+			return;
+		//Liquid force settles downwards, into the tank, pipe or machine below
+		TileEntity below = worldObj.getTileEntity(xCoord, yCoord-1, zCoord);
+		if (below instanceof IFluidHandler) {
+			int filled = ((IFluidHandler) below).fill(ForgeDirection.UP, liquidForceTank.drain(Config.liquidForceTransferRate, false), true);
+			if (filled > 0) {
+				liquidForceTank.drain(filled, true);
+				markDirty();
+			}
+		}
+	}
+
+	@Override
+	public void writeToNBT(NBTTagCompound nbtTagCompound) {
+		super.writeToNBT(nbtTagCompound);
+		liquidForceTank.writeToNBT(nbtTagCompound);
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound nbtTagCompound) {
+		super.readFromNBT(nbtTagCompound);
+		liquidForceTank.readFromNBT(nbtTagCompound);
+	}
+
+	@Override
+	public int fill(ForgeDirection from, FluidStack resource, boolean doFill) {
+		if (resource == null || resource.getFluid() != ModFluids.liquidForce)
+			return 0;
+		int filled = liquidForceTank.fill(resource, doFill);
+		if (doFill && filled > 0)
+			markDirty();
+		return filled;
+	}
+
+	@Override
+	public FluidStack drain(ForgeDirection from, FluidStack resource, boolean doDrain) {
+		if (resource == null || resource.getFluid() != ModFluids.liquidForce)
+			return null;
+		return drain(from, resource.amount, doDrain);
+	}
+
+	@Override
+	public FluidStack drain(ForgeDirection from, int maxDrain, boolean doDrain) {
+		FluidStack drained = liquidForceTank.drain(maxDrain, doDrain);
+		if (doDrain && drained != null)
+			markDirty();
+		return drained;
+	}
+
+	@Override
+	public boolean canFill(ForgeDirection from, Fluid fluid) {
+		return fluid == ModFluids.liquidForce;
+	}
+
+	@Override
+	public boolean canDrain(ForgeDirection from, Fluid fluid) {
+		return fluid == ModFluids.liquidForce;
+	}
+
+	@Override
+	public FluidTankInfo[] getTankInfo(ForgeDirection from) {
+		return new FluidTankInfo[]{liquidForceTank.getInfo()};
+	}
+}
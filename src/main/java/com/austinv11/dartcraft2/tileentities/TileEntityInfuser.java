@@ -5,6 +5,11 @@ import com.austinv11.collectiveframework.minecraft.utils.NBTHelper;
 import com.austinv11.dartcraft2.DartCraft2;
 import com.austinv11.dartcraft2.init.ModFluids;
 import com.austinv11.dartcraft2.init.ModItems;
+import com.austinv11.dartcraft2.items.ItemUpgradeTome;
+import com.austinv11.dartcraft2.metrics.Metrics;
+import com.austinv11.dartcraft2.profiling.Subsystem;
+import com.austinv11.dartcraft2.profiling.TickProfiler;
+import com.austinv11.dartcraft2.reference.Config;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.init.Items;
@@ -55,8 +60,9 @@ public class TileEntityInfuser extends TileEntityInventory implements IFluidHand
 	
 	@Override
 	public void updateEntity() {
+		long start = worldObj.isRemote ? 0 : TickProfiler.start(); //Only the server tick is profiled
 		super.updateEntity();
-		if (dummyTable != null)
+		if (dummyTable != null && worldObj.isRemote && getStackInSlot(0) != null) //The book is only ever drawn client side with a tome inside
 			dummyTable.updateEntity();
 		if (getStackInSlot(0) != null) {
 			if (getStackInSlot(0).getItem() == ModItems.upgradeTome) {
@@ -84,6 +90,8 @@ public class TileEntityInfuser extends TileEntityInventory implements IFluidHand
 				}
 			}
 		}
+		if (!worldObj.isRemote)
+			TickProfiler.stop(Subsystem.INFUSER_TICK, start, worldObj, xCoord, yCoord, zCoord);
 	}
 	
 	@Override
@@ -99,6 +107,21 @@ public class TileEntityInfuser extends TileEntityInventory implements IFluidHand
 		readFromNBT(pkt.func_148857_g());
 	}
 	
+	/**
+	 * Called when an infusion finishes, this levels up the tome in the infuser.
+	 * The infusion's calls into {@link com.austinv11.dartcraft2.api.IForceUpgrade#update} and the tools' onInfusion hooks
+	 * are made by other mods' code, so they're skipped while {@link com.austinv11.dartcraft2.profiling.CallWatchdog#isSuspended}
+	 * and wrapped in begin/end like the transmutation calls
+	 */
+	public void onInfusionComplete() {
+		if (worldObj == null || worldObj.isRemote)
+			return;
+		Metrics.INFUSIONS.increment();
+		if (ItemUpgradeTome.awardTomeXp(getStackInSlot(0), Config.experiencePerInfusion) > 0)
+			worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+		markDirty();
+	}
+	
 	public int getTier() {
 		if (getStackInSlot(0) != null)
 			if (getStackInSlot(0).getItem() == ModItems.upgradeTome)
@@ -1,12 +1,11 @@
 package com.austinv11.dartcraft2.utils;
 
 import baubles.api.BaublesApi;
-import com.austinv11.collectiveframework.minecraft.utils.NBTHelper;
 import com.austinv11.dartcraft2.init.ModItems;
+import com.austinv11.dartcraft2.inventory.ItemInventory;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
 
 public class DartCraftUtils {
 
@@ -36,28 +35,28 @@ public class DartCraftUtils {
     /**
      * Reads the passed Itemstack's nbt and sets the slots in the passed IInventory accordingly.
      * The size of the passed IInventory must be set correctly for this to work properly.
+     * Items still using the old per-slot keys are migrated to the {@link ItemInventory} format.
      */
     public static void readItemInventoryFromNBT(IInventory inv, ItemStack stack) {
-        if (stack != null) {
+        if (stack != null && stack.stackTagCompound != null) {
+            ItemInventory storage = new ItemInventory(inv.getInventoryName(), inv.getSizeInventory(), stack);
             for (int i = 0; i < inv.getSizeInventory(); i++) {
-                if (NBTHelper.hasTag(stack, "slot" + i)) {
-                    inv.setInventorySlotContents(i, ItemStack.loadItemStackFromNBT(NBTHelper.getCompoundTag(stack, "slot" + i)));
+                if (storage.getStackInSlot(i) != null) {
+                    inv.setInventorySlotContents(i, storage.getStackInSlot(i));
                 }
             }
         }
     }
 
     /**
-     * Writes the passed IInventory's slot contents to the passed Itemstack's NBT.
+     * Writes the passed IInventory's slot contents to the passed Itemstack's NBT, leaving any other NBT intact.
+     * An {@link ItemInventory} read from the same Itemstack only writes the slots which changed.
      */
     public static void writeItemInventoryToNBT(IInventory inv, ItemStack stack) {
-        if (stack != null) {
-            stack.stackTagCompound = null;
-            for (int i = 0; i < inv.getSizeInventory(); i++) {
-                if (inv.getStackInSlot(i) != null) {
-                    NBTHelper.setCompoundTag(stack, "slot" + i, inv.getStackInSlot(i).writeToNBT(new NBTTagCompound()));
-                }
-            }
+        if (inv instanceof ItemInventory) {
+            ((ItemInventory) inv).writeToItem(stack);
+        } else {
+            ItemInventory.writeSlots(inv, stack);
         }
     }
 }
@@ -0,0 +1,98 @@
+package com.austinv11.dartcraft2.utils;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.util.MovingObjectPosition;
+import net.minecraft.util.Vec3;
+import net.minecraft.world.World;
+
+import java.util.List;
+
+/**
+ * Finds what an entity is looking at, shared by the tools which act on their target
+ */
+public class TargetingUtils {
+
+	/**
+	 * Gets the unit vector an entity is looking along
+	 * @param entity The entity
+	 * @return The look vector
+	 */
+	public static Vec3 getLookVector(Entity entity) {
+		float yaw = entity.rotationYaw*0.017453292F, pitch = entity.rotationPitch*0.017453292F;
+		return Vec3.createVectorHelper(-MathHelper.sin(yaw)*MathHelper.cos(pitch), -MathHelper.sin(pitch),
+				MathHelper.cos(yaw)*MathHelper.cos(pitch));
+	}
+
+	/**
+	 * Gets the position an entity is looking from
+	 * @param entity The entity
+	 * @return The eye position
+	 */
+	public static Vec3 getEyePosition(Entity entity) {
+		double y = entity.posY;
+		//Players are positioned at their eyes on the client but at their feet on the server
+		if (!entity.worldObj.isRemote && entity instanceof EntityPlayer)
+			y += 1.62D;
+		return Vec3.createVectorHelper(entity.posX, y, entity.posZ);
+	}
+
+	/**
+	 * Finds the first block along an entity's look
+	 * @param world The world
+	 * @param entity The entity
+	 * @param hitLiquids Whether liquids stop the ray
+	 * @param range How far to look
+	 * @return The block hit, or null
+	 */
+	public static MovingObjectPosition rayTraceBlocks(World world, Entity entity, boolean hitLiquids, double range) {
+		Vec3 start = getEyePosition(entity);
+		Vec3 look = getLookVector(entity);
+		Vec3 end = start.addVector(look.xCoord*range, look.yCoord*range, look.zCoord*range);
+		return world.func_147447_a(start, end, hitLiquids, !hitLiquids, hitLiquids);
+	}
+
+	/**
+	 * Finds the nearest entity along a ray with a single entity query over the bounding box of the whole ray, each
+	 * candidate is then tested against the ray exactly
+	 * @param world The world
+	 * @param type The type of entity to look for
+	 * @param start Where the ray starts
+	 * @param direction The unit vector the ray points along
+	 * @param range The length of the ray
+	 * @param margin How far the ray can pass from an entity's bounding box and still hit it
+	 * @param exclude An entity to ignore (usually the one looking), or null
+	 * @return The entity closest to the start of the ray, or null
+	 */
+	public static <T extends Entity> T findEntityAlongRay(World world, Class<T> type, Vec3 start, Vec3 direction, double range,
+	                                                      double margin, Entity exclude) {
+		Vec3 end = start.addVector(direction.xCoord*range, direction.yCoord*range, direction.zCoord*range);
+		AxisAlignedBB sweep = AxisAlignedBB.getBoundingBox(Math.min(start.xCoord, end.xCoord), Math.min(start.yCoord, end.yCoord),
+				Math.min(start.zCoord, end.zCoord), Math.max(start.xCoord, end.xCoord), Math.max(start.yCoord, end.yCoord),
+				Math.max(start.zCoord, end.zCoord)).expand(margin, margin, margin);
+		List<T> candidates = world.getEntitiesWithinAABB(type, sweep);
+		T nearest = null;
+		double nearestDistance = Double.MAX_VALUE;
+		for (T candidate : candidates) {
+			if (candidate == exclude || candidate.isDead)
+				continue;
+			AxisAlignedBB box = candidate.boundingBox.expand(margin, margin, margin);
+			double distance;
+			if (box.isVecInside(start)) {
+				distance = 0;
+			} else {
+				MovingObjectPosition hit = box.calculateIntercept(start, end);
+				if (hit == null)
+					continue;
+				distance = start.squareDistanceTo(hit.hitVec);
+			}
+			if (distance < nearestDistance) {
+				nearest = candidate;
+				nearestDistance = distance;
+			}
+		}
+		return nearest;
+	}
+}
@@ -0,0 +1,39 @@
+package com.austinv11.dartcraft2.utils;
+
+import com.austinv11.dartcraft2.reference.Config;
+
+/**
+ * The experience each upgrade tome tier needs, compiled from the config so lookups are a plain array read.
+ * This is rebuilt whenever the config changes.
+ */
+public class TomeProgression {
+	
+	public static final int MAX_TIER = 7;
+	
+	private static volatile int[] thresholds = new int[MAX_TIER+1];
+	
+	/**
+	 * Rebuilds the thresholds from the current config values
+	 */
+	public static void compile() {
+		int[] compiled = new int[MAX_TIER+1]; //Index 0 is the starting tier and needs nothing
+		compiled[1] = Config.experienceForTier1;
+		compiled[2] = Config.experienceForTier2;
+		compiled[3] = Config.experienceForTier3;
+		compiled[4] = Config.experienceForTier4;
+		compiled[5] = Config.experienceForTier5;
+		compiled[6] = Config.experienceForTier6;
+		compiled[7] = Config.experienceForTier7;
+		thresholds = compiled;
+	}
+	
+	/**
+	 * Gets the experience needed to reach a tier from the one below it
+	 * @param tier The tier, 1-7
+	 * @return The experience needed, or -1 if the tier doesn't exist
+	 */
+	public static int getXpForTier(int tier) {
+		int[] current = thresholds;
+		return tier < 1 || tier >= current.length ? -1 : current[tier];
+	}
+}
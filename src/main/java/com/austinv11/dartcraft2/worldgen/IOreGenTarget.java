@@ -0,0 +1,34 @@
+package com.austinv11.dartcraft2.worldgen;
+
+/**
+ * The minimal view of a world that ore generation needs, this allows {@link WorldGenPowerOre} to run against
+ * something other than a live {@link net.minecraft.world.World} (i.e. for benchmarking)
+ */
+public interface IOreGenTarget {
+
+	/**
+	 * Checks if the given location is air
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @return True if the location is air
+	 */
+	public boolean isAirBlock(int x, int y, int z);
+
+	/**
+	 * Checks if the given location can hold ore
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 * @return True if ore can be spawned there
+	 */
+	public boolean isLocationSuitableForOre(int x, int y, int z);
+
+	/**
+	 * Places the ore block at the given location
+	 * @param x The x coord
+	 * @param y The y coord
+	 * @param z The z coord
+	 */
+	public void spawnOreBlock(int x, int y, int z);
+}
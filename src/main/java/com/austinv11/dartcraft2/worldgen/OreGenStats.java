@@ -0,0 +1,67 @@
+package com.austinv11.dartcraft2.worldgen;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe counters describing the work done by {@link WorldGenPowerOre}.
+ * Counts are only ever added together so totals don't depend on the order chunks were generated in.
+ */
+public class OreGenStats {
+
+	private final AtomicLong chunks = new AtomicLong();
+	private final AtomicLong veins = new AtomicLong();
+	private final AtomicLong abandonedVeins = new AtomicLong();
+	private final AtomicLong yRolls = new AtomicLong();
+	private final AtomicLong airHits = new AtomicLong();
+	private final AtomicLong blocksPlaced = new AtomicLong();
+
+	/**
+	 * Records the results of a single chunk
+	 * @param veins The number of veins attempted
+	 * @param abandonedVeins The number of veins which ran out of passes
+	 * @param yRolls The number of y levels tried
+	 * @param airHits The number of y levels which landed in air and had to be retried
+	 * @param blocksPlaced The number of ore blocks placed
+	 */
+	public void recordChunk(int veins, int abandonedVeins, int yRolls, int airHits, int blocksPlaced) {
+		chunks.incrementAndGet();
+		this.veins.addAndGet(veins);
+		this.abandonedVeins.addAndGet(abandonedVeins);
+		this.yRolls.addAndGet(yRolls);
+		this.airHits.addAndGet(airHits);
+		this.blocksPlaced.addAndGet(blocksPlaced);
+	}
+
+	public long getChunks() {
+		return chunks.get();
+	}
+
+	public long getVeins() {
+		return veins.get();
+	}
+
+	public long getAbandonedVeins() {
+		return abandonedVeins.get();
+	}
+
+	public long getYRolls() {
+		return yRolls.get();
+	}
+
+	public long getAirHits() {
+		return airHits.get();
+	}
+
+	public long getBlocksPlaced() {
+		return blocksPlaced.get();
+	}
+
+	/**
+	 * Gets the fraction of y level rolls which hit air and forced the retry loop to run again
+	 * @return The hit rate, 0.0-1.0
+	 */
+	public double getRetryHitRate() {
+		long rolls = yRolls.get();
+		return rolls == 0 ? 0 : (double) airHits.get() / rolls;
+	}
+}
@@ -1,6 +1,5 @@
 package com.austinv11.dartcraft2.worldgen;
 
-import com.austinv11.collectiveframework.minecraft.utils.WorldGenHelper;
 import com.austinv11.dartcraft2.init.ModBlocks;
 import com.austinv11.dartcraft2.reference.Config;
 import cpw.mods.fml.common.IWorldGenerator;
@@ -24,33 +23,57 @@ public class WorldGenPowerOre implements IWorldGenerator {
 	@Override
 	public void generate(Random random, int chunkX, int chunkZ, World world, IChunkProvider chunkGenerator, IChunkProvider chunkProvider) {
 		if ((world.provider.dimensionId == -1 && Config.spawnNetherPowerOre) || (world.provider.dimensionId == 0 && Config.spawnOverworldPowerOre)) {
-			genVein(random, world, chunkX, chunkZ);
+			boolean isOverworld = world.provider.dimensionId == 0;
+			genVein(random, new WorldOreGenTarget(world, isOverworld ? ModBlocks.powerOre : ModBlocks.netherPowerOre), chunkX, chunkZ, isOverworld, null);
 		}
 	}
 	
-	private void genVein(Random rng, World world, int chunkX, int chunkZ) {
+	/**
+	 * Generates all the veins for a chunk. The only randomness used comes from the passed rng, so the same seed will
+	 * always produce the same placements.
+	 * @param rng The chunk's random
+	 * @param target Where to place the ore
+	 * @param chunkX The chunk's x coord
+	 * @param chunkZ The chunk's z coord
+	 * @param isOverworld Whether to use the overworld y levels, otherwise the nether's are used
+	 * @param stats The counters to record into, may be null
+	 */
+	public void genVein(Random rng, IOreGenTarget target, int chunkX, int chunkZ, boolean isOverworld, OreGenStats stats) {
+		int minY = isOverworld ? Config.minYLevelOverworld : Config.minYLevelNether;
+		int maxY = isOverworld ? Config.maxYLevelOverworld : Config.maxYLevelNether;
+		int abandoned = 0, yRolls = 0, airHits = 0, placed = 0;
 		int numOfVeins = MathHelper.getRandomIntegerInRange(rng, Config.minPowerOreVeins, Config.maxPowerOreVeins);
 		outerLoop: for (int i = 0; i < numOfVeins; i++) {
 			int x = (chunkX*16) + MathHelper.getRandomIntegerInRange(rng, 0, 15);
 			int z = (chunkZ*16) + MathHelper.getRandomIntegerInRange(rng, 0, 15);
 			int y;
 			int passes = 0;
+			boolean isAir;
 			do {
-				y = MathHelper.getRandomIntegerInRange(rng, world.provider.dimensionId == 0 ? Config.minYLevelOverworld : Config.minYLevelNether,
-						world.provider.dimensionId == 0 ? Config.maxYLevelOverworld : Config.maxYLevelNether);
+				y = MathHelper.getRandomIntegerInRange(rng, minY, maxY);
 				if (passes++ > MAX_GEN_PASSES) {
+					abandoned++;
 					continue outerLoop;
 				}
-			} while (world.isAirBlock(x, y, z));
+				yRolls++;
+				isAir = target.isAirBlock(x, y, z);
+				if (isAir)
+					airHits++;
+			} while (isAir);
 			int numOfOres = MathHelper.getRandomIntegerInRange(rng, Config.minPowerOrePerVein, Config.maxPowerOrePerVein);
-			WorldGenHelper.spawnOreBlock(world, x, y, z, world.provider.dimensionId == 0 ? ModBlocks.powerOre : ModBlocks.netherPowerOre);
+			target.spawnOreBlock(x, y, z);
+			placed++;
 			for (int j = 0; j < numOfOres-1; j++) {
 				int newX = MathHelper.getRandomIntegerInRange(rng, x-1, x+1);
 				int newZ =  MathHelper.getRandomIntegerInRange(rng, z-1, z+1);
 				int newY =  MathHelper.getRandomIntegerInRange(rng, y-1, y+1);
-				if (!WorldGenHelper.isLocationSuitableForOre(world, newX, newY, newZ))
-					WorldGenHelper.spawnOreBlock(world, newX, newY, newZ, world.provider.dimensionId == 0 ? ModBlocks.powerOre : ModBlocks.netherPowerOre);
+				if (!target.isLocationSuitableForOre(newX, newY, newZ)) {
+					target.spawnOreBlock(newX, newY, newZ);
+					placed++;
+				}
 			}
 		}
+		if (stats != null)
+			stats.recordChunk(numOfVeins, abandoned, yRolls, airHits, placed);
 	}
 }
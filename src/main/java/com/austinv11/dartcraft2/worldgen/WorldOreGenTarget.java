@@ -0,0 +1,34 @@
+package com.austinv11.dartcraft2.worldgen;
+
+import com.austinv11.collectiveframework.minecraft.utils.WorldGenHelper;
+import net.minecraft.block.Block;
+import net.minecraft.world.World;
+
+/**
+ * An {@link IOreGenTarget} which places a single ore block into a live world
+ */
+public class WorldOreGenTarget implements IOreGenTarget {
+
+	private World world;
+	private Block ore;
+
+	public WorldOreGenTarget(World world, Block ore) {
+		this.world = world;
+		this.ore = ore;
+	}
+
+	@Override
+	public boolean isAirBlock(int x, int y, int z) {
+		return world.isAirBlock(x, y, z);
+	}
+
+	@Override
+	public boolean isLocationSuitableForOre(int x, int y, int z) {
+		return WorldGenHelper.isLocationSuitableForOre(world, x, y, z);
+	}
+
+	@Override
+	public void spawnOreBlock(int x, int y, int z) {
+		WorldGenHelper.spawnOreBlock(world, x, y, z, ore);
+	}
+}
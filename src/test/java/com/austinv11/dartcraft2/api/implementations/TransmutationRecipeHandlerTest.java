@@ -0,0 +1,129 @@
+package com.austinv11.dartcraft2.api.implementations;
+
+import com.austinv11.dartcraft2.api.FailedAPIRequest;
+import com.austinv11.dartcraft2.api.ITransmutationRecipeHandler;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.Item;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.*;
+
+/**
+ * Registers transmutations from several threads while others look them up, the way mods registering late and
+ * the server and client threads reading can overlap.
+ */
+public class TransmutationRecipeHandlerTest {
+
+	private static final int KEYS = 2000;
+	private static final int WRITERS = 4;
+	private static final int READERS = 4;
+
+	@BeforeClass
+	public static void bootstrap() {
+		Bootstrap.func_151354_b();
+	}
+
+	@Test
+	public void concurrentRegistrationAndLookup() throws Exception {
+		final TransmutationRecipeHandler handler = new TransmutationRecipeHandler();
+		final Item[] from = new Item[KEYS];
+		final Item[] to = new Item[KEYS];
+		for (int i = 0; i < KEYS; i++) {
+			from[i] = new Item();
+			to[i] = new Item();
+		}
+		//Every key is registered by exactly two writers, so exactly one of them has to be refused
+		final AtomicIntegerArray added = new AtomicIntegerArray(KEYS);
+		final AtomicIntegerArray refused = new AtomicIntegerArray(KEYS);
+		final AtomicBoolean writing = new AtomicBoolean(true);
+		final CountDownLatch startLatch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(WRITERS+READERS);
+		try {
+			List<Future<?>> writers = new ArrayList<Future<?>>();
+			for (int w = 0; w < WRITERS; w++) {
+				final int parity = w % 2;
+				writers.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						startLatch.await();
+						for (int i = parity; i < KEYS; i += 2) {
+							try {
+								handler.addTransmutation(from[i], i, to[i], i);
+								added.incrementAndGet(i);
+							} catch (FailedAPIRequest e) {
+								refused.incrementAndGet(i);
+							}
+						}
+						return null;
+					}
+				}));
+			}
+			List<Future<?>> readers = new ArrayList<Future<?>>();
+			for (int r = 0; r < READERS; r++) {
+				final long seed = r;
+				readers.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() throws Exception {
+						Random random = new Random(seed);
+						startLatch.await();
+						int lastSize = 0;
+						while (writing.get()) {
+							int i = random.nextInt(KEYS);
+							ITransmutationRecipeHandler.ItemInfo found = handler.getAvailableTransmutation(from[i], i);
+							if (found != null) {
+								assertSame(to[i], found.item);
+								assertEquals(i, found.meta);
+							}
+							assertNull(handler.getAvailableTransmutation(from[i], i+KEYS));
+							List<ITransmutationRecipeHandler.ItemInfo> items = handler.getTransmutableItems();
+							assertTrue("Registered transmutations disappeared", items.size() >= lastSize);
+							lastSize = items.size();
+							for (ITransmutationRecipeHandler.ItemInfo info : items)
+								assertNotNull(info.item);
+						}
+						return null;
+					}
+				}));
+			}
+			startLatch.countDown();
+			for (Future<?> writer : writers)
+				writer.get(60, TimeUnit.SECONDS);
+			writing.set(false);
+			for (Future<?> reader : readers)
+				reader.get(60, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(KEYS, handler.getTransmutableItems().size());
+		for (int i = 0; i < KEYS; i++) {
+			assertEquals("Key "+i+" added", 1, added.get(i));
+			assertEquals("Key "+i+" refused", 1, refused.get(i));
+			ITransmutationRecipeHandler.ItemInfo found = handler.getAvailableTransmutation(from[i], i);
+			assertNotNull("Key "+i+" missing", found);
+			assertSame(to[i], found.item);
+		}
+	}
+
+	@Test
+	public void unregisteredItemsDontCollide() throws FailedAPIRequest {
+		TransmutationRecipeHandler handler = new TransmutationRecipeHandler();
+		Item first = new Item(), second = new Item();
+		handler.addTransmutation(first, 0, new Item(), 0);
+		handler.addTransmutation(second, 0, new Item(), 0); //Both have the id -1, this must not be a duplicate
+		assertNull(handler.getAvailableTransmutation(new Item(), 0));
+		assertEquals(2, handler.getTransmutableItems().size());
+	}
+}
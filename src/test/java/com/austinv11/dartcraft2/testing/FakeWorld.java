@@ -0,0 +1,400 @@
+package com.austinv11.dartcraft2.testing;
+
+import net.minecraft.block.Block;
+import net.minecraft.command.IEntitySelector;
+import net.minecraft.entity.Entity;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.chunk.storage.IChunkLoader;
+import net.minecraft.world.storage.IPlayerFileData;
+import net.minecraft.world.storage.ISaveHandler;
+import net.minecraft.world.storage.WorldInfo;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * An in-memory world for exercising DartCraft 2 code without a running game. Every chunk between y 0 and 255 exists
+ * and is fully lit, blocks are packed into 16x16x16 sections (created as they are first written to) and tile entities
+ * and entities are kept per chunk column. Nothing is ever ticked, generated or saved.
+ *
+ * Blocks are stored through a palette local to the world, so blocks which were never registered can be placed too.
+ * Entities are filed under the column they were spawned in, use {@link #moveEntity(Entity, double, double, double)}
+ * to move one somewhere else.
+ *
+ * Anything which goes through the world's chunk provider or chunks (lighting, height maps, chunk lookups) isn't
+ * supported. Call {@link net.minecraft.init.Bootstrap#func_151354_b()} once before creating a world.
+ */
+public class FakeWorld extends World {
+
+	private final HashMap<Long, Column> columns = new HashMap<Long, Column>();
+	private final List<Block> palette = new ArrayList<Block>();
+	private final IdentityHashMap<Block, Integer> paletteIds = new IdentityHashMap<Block, Integer>();
+	private final HashMap<Integer, Entity> entitiesById = new HashMap<Integer, Entity>();
+	private Column lastColumn; //Most lookups are close to the last one
+
+	public FakeWorld() {
+		this(0);
+	}
+
+	/**
+	 * @param seed The world's seed
+	 */
+	public FakeWorld(long seed) {
+		//This is the constructor WorldServer uses, it registers the provider and creates fresh world info as nothing is loaded
+		super(new NoSaveHandler(), "fake", new WorldSettings(seed, WorldSettings.GameType.SURVIVAL, false, false, WorldType.FLAT),
+				new WorldProviderSurface(), new Profiler());
+		palette.add(Blocks.air);
+		paletteIds.put(Blocks.air, 0);
+	}
+
+	/**
+	 * Removes every block, tile entity and entity
+	 */
+	public void clear() {
+		for (Column column : columns.values()) {
+			for (TileEntity tileEntity : column.tiles.values())
+				tileEntity.invalidate();
+			for (Entity entity : column.entities)
+				entity.setDead();
+		}
+		columns.clear();
+		entitiesById.clear();
+		loadedEntityList.clear();
+		lastColumn = null;
+	}
+
+	/**
+	 * Moves the world's clock forward, as if the given number of ticks had passed
+	 * @param ticks The number of ticks
+	 */
+	public void advanceTime(long ticks) {
+		worldInfo.incrementTotalWorldTime(worldInfo.getWorldTotalTime()+ticks);
+		worldInfo.setWorldTime(worldInfo.getWorldTime()+ticks);
+	}
+
+	/**
+	 * Moves an entity, filing it under its new chunk column
+	 * @param entity The entity
+	 * @param x The new x coord
+	 * @param y The new y coord
+	 * @param z The new z coord
+	 */
+	public void moveEntity(Entity entity, double x, double y, double z) {
+		Column from = getColumn(entity.chunkCoordX, entity.chunkCoordZ, false);
+		if (from != null)
+			from.entities.remove(entity);
+		entity.setPosition(x, y, z);
+		fileEntity(entity);
+	}
+
+	@Override
+	protected IChunkProvider createChunkProvider() {
+		return null;
+	}
+
+	@Override
+	protected int func_152379_p() {
+		return 0;
+	}
+
+	@Override
+	protected boolean chunkExists(int chunkX, int chunkZ) {
+		return true;
+	}
+
+	@Override
+	public boolean blockExists(int x, int y, int z) {
+		return y >= 0 && y < 256;
+	}
+
+	@Override
+	public boolean checkChunksExist(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		return maxY >= 0 && minY < 256;
+	}
+
+	@Override
+	public Block getBlock(int x, int y, int z) {
+		if (y < 0 || y > 255)
+			return Blocks.air;
+		Column column = getColumn(x >> 4, z >> 4, false);
+		if (column == null)
+			return Blocks.air;
+		char[] section = column.sections[y >> 4];
+		return section == null ? Blocks.air : palette.get(section[index(x, y, z)] >> 4);
+	}
+
+	@Override
+	public int getBlockMetadata(int x, int y, int z) {
+		if (y < 0 || y > 255)
+			return 0;
+		Column column = getColumn(x >> 4, z >> 4, false);
+		if (column == null)
+			return 0;
+		char[] section = column.sections[y >> 4];
+		return section == null ? 0 : section[index(x, y, z)] & 15;
+	}
+
+	@Override
+	public boolean setBlock(int x, int y, int z, Block block, int meta, int flags) {
+		if (y < 0 || y > 255)
+			return false;
+		Block oldBlock = getBlock(x, y, z);
+		int oldMeta = getBlockMetadata(x, y, z);
+		if (oldBlock == block && oldMeta == meta)
+			return false;
+		Column column = getColumn(x >> 4, z >> 4, true);
+		char[] section = column.sections[y >> 4];
+		if (section == null)
+			section = column.sections[y >> 4] = new char[4096];
+		section[index(x, y, z)] = (char) (getPaletteId(block) << 4 | (meta & 15));
+		if (oldBlock != block)
+			oldBlock.breakBlock(this, x, y, z, oldBlock, oldMeta);
+		if (oldBlock.hasTileEntity(oldMeta) && (oldBlock != block || !block.hasTileEntity(meta)))
+			removeTileEntity(x, y, z);
+		if (oldBlock != block)
+			block.onBlockAdded(this, x, y, z);
+		if (block.hasTileEntity(meta) && getTileEntity(x, y, z) == null)
+			setTileEntity(x, y, z, block.createTileEntity(this, meta));
+		if ((flags & 2) != 0)
+			markBlockForUpdate(x, y, z);
+		if ((flags & 1) != 0)
+			notifyBlockChange(x, y, z, oldBlock);
+		return true;
+	}
+
+	@Override
+	public boolean setBlockMetadataWithNotify(int x, int y, int z, int meta, int flags) {
+		Block block = getBlock(x, y, z);
+		if (block == Blocks.air || getBlockMetadata(x, y, z) == (meta & 15))
+			return false;
+		getColumn(x >> 4, z >> 4, false).sections[y >> 4][index(x, y, z)] = (char) (getPaletteId(block) << 4 | (meta & 15));
+		TileEntity tileEntity = getTileEntity(x, y, z);
+		if (tileEntity != null)
+			tileEntity.updateContainingBlockInfo();
+		if ((flags & 2) != 0)
+			markBlockForUpdate(x, y, z);
+		if ((flags & 1) != 0)
+			notifyBlockChange(x, y, z, block);
+		return true;
+	}
+
+	@Override
+	public TileEntity getTileEntity(int x, int y, int z) {
+		Column column = getColumn(x >> 4, z >> 4, false);
+		return column == null ? null : column.tiles.get(key(x, y, z));
+	}
+
+	@Override
+	public void setTileEntity(int x, int y, int z, TileEntity tileEntity) {
+		if (tileEntity == null || y < 0 || y > 255)
+			return;
+		tileEntity.setWorldObj(this);
+		tileEntity.xCoord = x;
+		tileEntity.yCoord = y;
+		tileEntity.zCoord = z;
+		tileEntity.validate();
+		TileEntity old = getColumn(x >> 4, z >> 4, true).tiles.put(key(x, y, z), tileEntity);
+		if (old != null && old != tileEntity)
+			old.invalidate();
+	}
+
+	@Override
+	public void removeTileEntity(int x, int y, int z) {
+		Column column = getColumn(x >> 4, z >> 4, false);
+		TileEntity tileEntity = column == null ? null : column.tiles.remove(key(x, y, z));
+		if (tileEntity != null)
+			tileEntity.invalidate();
+	}
+
+	@Override
+	public int getBlockLightValue(int x, int y, int z) {
+		return 15;
+	}
+
+	@Override
+	public int getSavedLightValue(EnumSkyBlock type, int x, int y, int z) {
+		return type.defaultLightValue;
+	}
+
+	@Override
+	public boolean spawnEntityInWorld(Entity entity) {
+		if (entitiesById.containsKey(entity.getEntityId()))
+			return false;
+		entity.worldObj = this;
+		entity.isDead = false;
+		entitiesById.put(entity.getEntityId(), entity);
+		loadedEntityList.add(entity);
+		fileEntity(entity);
+		return true;
+	}
+
+	@Override
+	public void removeEntity(Entity entity) {
+		entity.setDead();
+		entitiesById.remove(entity.getEntityId());
+		loadedEntityList.remove(entity);
+		Column column = getColumn(entity.chunkCoordX, entity.chunkCoordZ, false);
+		if (column != null)
+			column.entities.remove(entity);
+	}
+
+	@Override
+	public Entity getEntityByID(int id) {
+		return entitiesById.get(id);
+	}
+
+	@Override
+	public List getEntitiesWithinAABBExcludingEntity(Entity exclude, AxisAlignedBB box, IEntitySelector selector) {
+		List<Entity> found = new ArrayList<Entity>();
+		for (Entity entity : getEntitiesNear(box))
+			if (entity != exclude && entity.boundingBox.intersectsWith(box) && (selector == null || selector.isEntityApplicable(entity)))
+				found.add(entity);
+		return found;
+	}
+
+	@Override
+	public List selectEntitiesWithinAABB(Class type, AxisAlignedBB box, IEntitySelector selector) {
+		List<Entity> found = new ArrayList<Entity>();
+		for (Entity entity : getEntitiesNear(box))
+			if (type.isInstance(entity) && entity.boundingBox.intersectsWith(box) && (selector == null || selector.isEntityApplicable(entity)))
+				found.add(entity);
+		return found;
+	}
+
+	/**
+	 * Gets the entities filed under the columns a box covers, padded the same way vanilla pads its searches
+	 */
+	private List<Entity> getEntitiesNear(AxisAlignedBB box) {
+		int minX = MathHelper.floor_double((box.minX-MAX_ENTITY_RADIUS)/16), maxX = MathHelper.floor_double((box.maxX+MAX_ENTITY_RADIUS)/16);
+		int minZ = MathHelper.floor_double((box.minZ-MAX_ENTITY_RADIUS)/16), maxZ = MathHelper.floor_double((box.maxZ+MAX_ENTITY_RADIUS)/16);
+		List<Entity> entities = new ArrayList<Entity>();
+		for (int chunkX = minX; chunkX <= maxX; chunkX++)
+			for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++) {
+				Column column = getColumn(chunkX, chunkZ, false);
+				if (column != null)
+					entities.addAll(column.entities);
+			}
+		return entities;
+	}
+
+	private void fileEntity(Entity entity) {
+		int chunkX = MathHelper.floor_double(entity.posX/16), chunkZ = MathHelper.floor_double(entity.posZ/16);
+		entity.addedToChunk = true;
+		entity.chunkCoordX = chunkX;
+		entity.chunkCoordY = MathHelper.clamp_int(MathHelper.floor_double(entity.posY/16), 0, 15);
+		entity.chunkCoordZ = chunkZ;
+		getColumn(chunkX, chunkZ, true).entities.add(entity);
+	}
+
+	private int getPaletteId(Block block) {
+		Integer id = paletteIds.get(block);
+		if (id == null) {
+			if (palette.size() == 4096)
+				throw new IllegalStateException("A fake world can only hold 4096 different blocks");
+			id = palette.size();
+			palette.add(block);
+			paletteIds.put(block, id);
+		}
+		return id;
+	}
+
+	private Column getColumn(int chunkX, int chunkZ, boolean create) {
+		Column column = lastColumn;
+		if (column != null && column.chunkX == chunkX && column.chunkZ == chunkZ)
+			return column;
+		long key = (long) chunkX << 32 | (chunkZ & 0xFFFFFFFFL);
+		column = columns.get(key);
+		if (column == null) {
+			if (!create)
+				return null;
+			column = new Column(chunkX, chunkZ);
+			columns.put(key, column);
+		}
+		lastColumn = column;
+		return column;
+	}
+
+	private static int index(int x, int y, int z) {
+		return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+	}
+
+	private static long key(int x, int y, int z) {
+		return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFF);
+	}
+
+	private static class Column {
+
+		private final int chunkX, chunkZ;
+		private final char[][] sections = new char[16][]; //Palette id << 4 | meta, for each block in a 16x16x16 section
+		private final HashMap<Long, TileEntity> tiles = new HashMap<Long, TileEntity>();
+		private final List<Entity> entities = new ArrayList<Entity>();
+
+		private Column(int chunkX, int chunkZ) {
+			this.chunkX = chunkX;
+			this.chunkZ = chunkZ;
+		}
+	}
+
+	/**
+	 * Stands in for the save handler the world constructor reads its info and map data through, nothing is ever saved
+	 */
+	private static class NoSaveHandler implements ISaveHandler {
+
+		@Override
+		public WorldInfo loadWorldInfo() {
+			return null;
+		}
+
+		@Override
+		public void checkSessionLock() {}
+
+		@Override
+		public IChunkLoader getChunkLoader(WorldProvider provider) {
+			return null;
+		}
+
+		@Override
+		public void saveWorldInfoWithPlayer(WorldInfo info, NBTTagCompound player) {}
+
+		@Override
+		public void saveWorldInfo(WorldInfo info) {}
+
+		@Override
+		public IPlayerFileData getSaveHandler() {
+			return null;
+		}
+
+		@Override
+		public void flush() {}
+
+		@Override
+		public File getWorldDirectory() {
+			return null;
+		}
+
+		@Override
+		public File getMapFileFromName(String name) {
+			return null;
+		}
+
+		@Override
+		public String getWorldDirectoryName() {
+			return "fake";
+		}
+	}
+}
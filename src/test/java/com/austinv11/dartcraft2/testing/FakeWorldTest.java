@@ -0,0 +1,31 @@
+package com.austinv11.dartcraft2.testing;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Makes sure a FakeWorld can be created and holds blocks, since every benchmark built on it depends on that
+ */
+public class FakeWorldTest {
+
+	@BeforeClass
+	public static void bootstrap() {
+		Bootstrap.func_151354_b();
+	}
+
+	@Test
+	public void setAndGetBlock() {
+		FakeWorld world = new FakeWorld();
+		assertSame(Blocks.air, world.getBlock(5, 64, -7));
+		assertTrue(world.setBlock(5, 64, -7, Blocks.wool, 3, 3));
+		assertSame(Blocks.wool, world.getBlock(5, 64, -7));
+		assertEquals(3, world.getBlockMetadata(5, 64, -7));
+		assertSame(Blocks.air, world.getBlock(5, 65, -7));
+		world.clear();
+		assertSame(Blocks.air, world.getBlock(5, 64, -7));
+	}
+}